@@ -2,16 +2,24 @@ package library;
 
 import library.controllers.CommandLineController;
 import library.database.DatabaseConnection;
+import library.models.AsyncLibrary;
 import library.models.Library;
-import library.models.LibraryRequest;
+import library.models.LibraryResult;
+import library.models.enums.AdmissionPolicy;
+import library.models.enums.DispatchMode;
+import library.models.enums.EventDispatchMode;
 import library.models.enums.ThreadType;
+import library.models.enums.WaitStrategy;
+import library.print.observers.EventManager;
+import library.threads.dispatchers.RequestDispatcher;
 import library.threads.factories.ThreadFactory;
+import library.threads.queues.PriorityRequestQueue;
 
 import java.util.concurrent.*;
 
 public class Main {
-    private static final BlockingQueue<LibraryRequest> requestQueue = new LinkedBlockingQueue<>();
-    private static final BlockingQueue<library.models.LibraryResult> resultQueue = new LinkedBlockingQueue<>();
+    private static PriorityRequestQueue requestQueue;
+    private static BlockingQueue<LibraryResult> resultQueue;
 
     public static void main(String[] args) {
         System.out.println("=== Library Management System (JDBC Version) ===");
@@ -25,18 +33,35 @@ public class Main {
             System.exit(1);
         }
 
+        requestQueue = new PriorityRequestQueue(
+                DatabaseConnection.getIntProperty("queue.request.capacity", 10000),
+                AdmissionPolicy.valueOf(DatabaseConnection.getProperty("queue.request.admissionPolicy", "BLOCK")),
+                DatabaseConnection.getIntProperty("queue.request.timeoutMillis", 30000));
+        resultQueue = new LinkedBlockingQueue<>(DatabaseConnection.getIntProperty("queue.result.capacity", 1000));
+
+        EventManager.configure(
+                EventDispatchMode.valueOf(DatabaseConnection.getProperty("events.mode", "SYNC")),
+                DatabaseConnection.getIntProperty("events.ringSize", 1024),
+                WaitStrategy.valueOf(DatabaseConnection.getProperty("events.waitStrategy", "BLOCKING")));
+
         Library library = Library.getInstance();
-        CommandLineController cli = CommandLineController.getInstance(library);
-        CountDownLatch countDownLatch = new CountDownLatch(3);
+        AsyncLibrary asyncLibrary = new AsyncLibrary(library);
+        CommandLineController cli = CommandLineController.getInstance(library, asyncLibrary);
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        RequestDispatcher dispatcher = new RequestDispatcher(requestQueue, resultQueue, cli, library,
+                DatabaseConnection.getIntProperty("dispatcher.workers", 2),
+                DispatchMode.valueOf(DatabaseConnection.getProperty("dispatcher.mode", "PLATFORM")));
+        requestQueue.setShedHandler(request -> dispatcher.publishResult(new LibraryResult(false,
+                "Request " + request.getRequestType() + " was dropped because the system is overloaded")));
+        dispatcher.setLaneCapacity(DatabaseConnection.getIntProperty("dispatcher.lane.capacity", 16));
+        dispatcher.enableGroupCommit(DatabaseConnection.getIntProperty("dispatcher.groupCommit.maxSize", 1),
+                DatabaseConnection.getIntProperty("dispatcher.groupCommit.maxWaitMillis", 5));
 
-        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
         try {
-            Thread requestThread = ThreadFactory.createThread(ThreadType.REQUEST_HANDLER, cli, library, countDownLatch, requestQueue, resultQueue);
-            Thread resultThread1 = ThreadFactory.createThread(ThreadType.RESULT_HANDLER, cli, library, countDownLatch, requestQueue, resultQueue);
-            Thread resultThread2 = ThreadFactory.createThread(ThreadType.RESULT_HANDLER, cli, library, countDownLatch, requestQueue, resultQueue);
+            Thread requestThread = ThreadFactory.createThread(ThreadType.REQUEST_HANDLER, cli, countDownLatch, resultQueue);
+            dispatcher.start();
             executorService.execute(requestThread);
-            executorService.execute(resultThread1);
-            executorService.execute(resultThread2);
             countDownLatch.await();
 
         } catch (InterruptedException e) {
@@ -45,17 +70,26 @@ public class Main {
         } finally {
             executorService.shutdownNow();
             ThreadFactory.stopAllThreads();
+            dispatcher.shutdown();
+            System.out.println("📈 Queue wait times: " + requestQueue.describeWaitTimes());
+            System.out.println("📈 Results dropped: " + dispatcher.getDroppedResultCount()
+                    + ", requests expired in queue: " + dispatcher.getExpiredCount()
+                    + ", requests past deadline: " + dispatcher.getTimedOutCount());
+            EventManager.getEventBus().shutdown();
+            System.out.println("📈 Events: " + EventManager.getEventBus().describeLag());
+            asyncLibrary.shutdown();
+            library.shutdown();
             DatabaseConnection.shutdown();
         }
 
         cli.exitProgram();
     }
 
-    public static BlockingQueue<LibraryRequest> getRequestQueue() {
+    public static PriorityRequestQueue getRequestQueue() {
         return requestQueue;
     }
 
-    public static BlockingQueue<library.models.LibraryResult> getResultQueue() {
+    public static BlockingQueue<LibraryResult> getResultQueue() {
         return resultQueue;
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package library.benchmarks;
+
+import library.database.DatabaseConnection;
+import library.database.dao.LibraryItemDAO;
+import library.database.dao.LibraryItemDetailDAO;
+import library.database.dao.impl.*;
+import library.database.util.DBUtil;
+import library.models.LibraryItem;
+import library.models.enums.LibraryItemType;
+
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class HydrationBenchmark {
+
+    public static void main(String[] args) throws SQLException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        LibraryItemDAO libraryItemDAO = new LibraryItemDAOImpl();
+
+        Map<LibraryItemType, LibraryItemDetailDAO<?>> detailDAOs = new EnumMap<>(LibraryItemType.class);
+        detailDAOs.put(LibraryItemType.BOOK, new BookDAOImpl());
+        detailDAOs.put(LibraryItemType.MAGAZINE, new MagazineDAOImpl());
+        detailDAOs.put(LibraryItemType.REFERENCE, new ReferenceDAOImpl());
+        detailDAOs.put(LibraryItemType.THESIS, new ThesisDAOImpl());
+
+        try {
+            for (int i = 1; i <= iterations; i++) {
+                long checkouts = DBUtil.getConnectionCheckouts();
+                long statements = DBUtil.getStatementExecutions();
+                long start = System.nanoTime();
+                List<LibraryItem> items = libraryItemDAO.findAll();
+                long joinedNanos = System.nanoTime() - start;
+                long joinedCheckouts = DBUtil.getConnectionCheckouts() - checkouts;
+                long joinedStatements = DBUtil.getStatementExecutions() - statements;
+
+                // Per-row lookups as issued by the previous mapper, on top of the parent scan.
+                checkouts = DBUtil.getConnectionCheckouts();
+                statements = DBUtil.getStatementExecutions();
+                start = System.nanoTime();
+                for (LibraryItem item : items) {
+                    detailDAOs.get(item.getType()).findById(item.getId());
+                }
+                long perRowNanos = System.nanoTime() - start + joinedNanos;
+                long perRowCheckouts = DBUtil.getConnectionCheckouts() - checkouts + 1;
+                long perRowStatements = DBUtil.getStatementExecutions() - statements + 1;
+
+                System.out.printf("Run %d: %d items%n", i, items.size());
+                System.out.printf("  joined  : %8.2f ms | %d statements | %d connection checkouts%n",
+                        joinedNanos / 1_000_000.0, joinedStatements, joinedCheckouts);
+                System.out.printf("  per-row : %8.2f ms | %d statements | %d connection checkouts%n",
+                        perRowNanos / 1_000_000.0, perRowStatements, perRowCheckouts);
+            }
+        } finally {
+            DatabaseConnection.shutdown();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package library.benchmarks;
+
+import library.models.structures.GenericLinkedList;
+import library.models.structures.UnrolledLinkedList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class LinkedListBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int REMOVALS = 10;
+
+    private static long sink;
+
+    // args: smallest and largest power of ten to run, e.g. "3 7" for 10^3 .. 10^7 elements.
+    public static void main(String[] args) {
+        int fromExponent = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int toExponent = args.length > 1 ? Integer.parseInt(args[1]) : 7;
+
+        for (int exponent = fromExponent; exponent <= toExponent; exponent++) {
+            int size = (int) Math.pow(10, exponent);
+            Integer[] values = new Random(42).ints(size, 0, size).boxed().toArray(Integer[]::new);
+            // Random values repeat, so plant unique out-of-range markers in the middle: each removal then
+            // finds exactly its own element and scans about half the list to reach it.
+            Integer[] removals = new Integer[Math.min(REMOVALS, size / 2)];
+            for (int i = 0; i < removals.length; i++) {
+                removals[i] = size + i;
+                values[size / 2 + i] = removals[i];
+            }
+
+            System.out.printf("%,d elements%n", size);
+            System.out.printf("  %-10s %10s %10s %10s %10s %10s %10s%n",
+                    "", "add", "iterate", "filter", "toArray", "remove", "sort");
+            report("node", measure(values, removals, new NodeTarget()));
+            report("unrolled", measure(values, removals, new UnrolledTarget()));
+            report("ArrayList", measure(values, removals, new ArrayListTarget()));
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static double[] measure(Integer[] values, Integer[] removals, Target target) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runOnce(values, removals, target);
+        }
+        double[] totals = new double[6];
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            double[] timings = runOnce(values, removals, target);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += timings[i] / MEASURED_ROUNDS;
+            }
+        }
+        return totals;
+    }
+
+    private static double[] runOnce(Integer[] values, Integer[] removals, Target target) {
+        double[] timings = new double[6];
+
+        long start = System.nanoTime();
+        target.create();
+        for (Integer value : values) {
+            target.add(value);
+        }
+        timings[0] = millisSince(start);
+
+        start = System.nanoTime();
+        sink += target.iterate();
+        timings[1] = millisSince(start);
+
+        start = System.nanoTime();
+        sink += target.filterEven();
+        timings[2] = millisSince(start);
+
+        start = System.nanoTime();
+        sink += target.toArray().length;
+        timings[3] = millisSince(start);
+
+        start = System.nanoTime();
+        for (Integer value : removals) {
+            sink += target.remove(value) ? 1 : 0;
+        }
+        timings[4] = millisSince(start);
+
+        start = System.nanoTime();
+        target.sort(Comparator.naturalOrder());
+        timings[5] = millisSince(start);
+
+        return timings;
+    }
+
+    private static double millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private static void report(String name, double[] timings) {
+        System.out.printf("  %-10s %8.2fms %8.2fms %8.2fms %8.2fms %8.2fms %8.2fms%n",
+                name, timings[0], timings[1], timings[2], timings[3], timings[4], timings[5]);
+    }
+
+    private interface Target {
+        void create();
+        void add(Integer value);
+        long iterate();
+        int filterEven();
+        Integer[] toArray();
+        boolean remove(Integer value);
+        void sort(Comparator<Integer> comparator);
+    }
+
+    private static final class NodeTarget implements Target {
+        private GenericLinkedList<Integer> list;
+
+        public void create() { list = new GenericLinkedList<>(); }
+        public void add(Integer value) { list.add(value); }
+        public int filterEven() { return list.filter(value -> value % 2 == 0).getSize(); }
+        public Integer[] toArray() { return list.toArray(new Integer[0]); }
+        public boolean remove(Integer value) { return list.remove(value); }
+        public void sort(Comparator<Integer> comparator) { list.sort(comparator); }
+
+        public long iterate() {
+            long sum = 0;
+            for (Integer value : list) {
+                sum += value;
+            }
+            return sum;
+        }
+    }
+
+    private static final class UnrolledTarget implements Target {
+        private UnrolledLinkedList<Integer> list;
+
+        public void create() { list = new UnrolledLinkedList<>(); }
+        public void add(Integer value) { list.add(value); }
+        public int filterEven() { return list.filter(value -> value % 2 == 0).getSize(); }
+        public Integer[] toArray() { return list.toArray(new Integer[0]); }
+        public boolean remove(Integer value) { return list.remove(value); }
+        public void sort(Comparator<Integer> comparator) { list.sort(comparator); }
+
+        public long iterate() {
+            long sum = 0;
+            for (Integer value : list) {
+                sum += value;
+            }
+            return sum;
+        }
+    }
+
+    private static final class ArrayListTarget implements Target {
+        private List<Integer> list;
+
+        public void create() { list = new ArrayList<>(); }
+        public void add(Integer value) { list.add(value); }
+        public int filterEven() { return list.stream().filter(value -> value % 2 == 0).toList().size(); }
+        public Integer[] toArray() { return list.toArray(new Integer[0]); }
+        public boolean remove(Integer value) { return list.remove(value); }
+        public void sort(Comparator<Integer> comparator) { list.sort(comparator); }
+
+        public long iterate() {
+            long sum = 0;
+            for (Integer value : list) {
+                sum += value;
+            }
+            return sum;
+        }
+    }
+}
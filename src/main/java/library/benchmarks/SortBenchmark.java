@@ -0,0 +1,74 @@
+package library.benchmarks;
+
+import library.models.structures.GenericLinkedList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class SortBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    // Keys repeat often, so the sequence number shows whether equal keys kept their input order.
+    private static final Comparator<int[]> BY_KEY = Comparator.comparingInt(entry -> entry[0]);
+
+    // args: smallest and largest power of ten to run, e.g. "3 7" for 10^3 .. 10^7 elements.
+    public static void main(String[] args) {
+        int fromExponent = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int toExponent = args.length > 1 ? Integer.parseInt(args[1]) : 7;
+
+        for (int exponent = fromExponent; exponent <= toExponent; exponent++) {
+            int size = (int) Math.pow(10, exponent);
+            Random random = new Random(42);
+            int[][] entries = new int[size][];
+            for (int i = 0; i < size; i++) {
+                entries[i] = new int[]{random.nextInt(Math.max(1, size / 10)), i};
+            }
+
+            System.out.printf("%,d elements%n", size);
+            run("GenericLinkedList.sort", entries, () -> new GenericLinkedList<int[]>(),
+                    GenericLinkedList::add, list -> list.sort(BY_KEY), list -> list.toList());
+            run("GenericLinkedList.parallelSort", entries, () -> new GenericLinkedList<int[]>(),
+                    GenericLinkedList::add, list -> list.parallelSort(BY_KEY), list -> list.toList());
+            run("ArrayList.sort", entries, () -> new ArrayList<int[]>(size),
+                    List::add, list -> list.sort(BY_KEY), list -> list);
+        }
+    }
+
+    private static <L> void run(String name, int[][] entries, Supplier<L> factory,
+                                BiConsumer<L, int[]> add, Consumer<L> sort,
+                                Function<L, List<int[]>> contents) {
+        double total = 0;
+        L list = null;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            list = factory.get();
+            for (int[] entry : entries) {
+                add.accept(list, entry);
+            }
+            long start = System.nanoTime();
+            sort.accept(list);
+            if (round >= WARMUP_ROUNDS) {
+                total += (System.nanoTime() - start) / 1_000_000.0;
+            }
+        }
+        System.out.printf("  %-32s %10.2f ms  %s%n", name, total / MEASURED_ROUNDS,
+                isStablySorted(contents.apply(list)) ? "stable" : "NOT STABLE");
+    }
+
+    private static boolean isStablySorted(List<int[]> sorted) {
+        for (int i = 1; i < sorted.size(); i++) {
+            int[] previous = sorted.get(i - 1);
+            int[] current = sorted.get(i);
+            if (previous[0] > current[0] || (previous[0] == current[0] && previous[1] > current[1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package library.config;
+
+import library.database.DatabaseConnection;
+
+// Application settings from db.properties that are not about JDBC access; those stay in DBUtil.
+public final class LibrarySettings {
+
+    private LibrarySettings() {
+    }
+
+    public static int getAsyncQueueCapacity() {
+        return DatabaseConnection.getIntProperty("async.queueCapacity", 1000);
+    }
+
+    public static int getCacheMaxSize() {
+        return DatabaseConnection.getIntProperty("db.cache.maxSize", 10000);
+    }
+
+    public static long getCacheTtlSeconds() {
+        return DatabaseConnection.getIntProperty("db.cache.ttlSeconds", 300);
+    }
+
+    public static long getCacheNegativeTtlSeconds() {
+        return DatabaseConnection.getIntProperty("db.cache.negativeTtlSeconds", 30);
+    }
+
+    public static long getStatisticsReconcileIntervalSeconds() {
+        return DatabaseConnection.getIntProperty("db.stats.reconcileIntervalSeconds", 60);
+    }
+}
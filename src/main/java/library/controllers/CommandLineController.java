@@ -4,12 +4,15 @@ import library.models.*;
 import library.models.builders.*;
 import library.models.enums.RequestType;
 import library.models.enums.LibraryItemStatus;
+import library.models.enums.LibraryItemType;
 import library.models.enums.SearchAlgorithm;
-import library.search.strategies.SearchStrategy;
-import library.search.strategies.SearchStrategyFactory;
+import library.models.exceptions.LibraryException;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Scanner;
@@ -26,10 +29,13 @@ import org.slf4j.LoggerFactory;
 public class CommandLineController {
     private static CommandLineController commandLineController = null;
     private final Library library;
+    private final AsyncLibrary asyncLibrary;
     private final Scanner scanner;
     private static final Logger logger = LoggerFactory.getLogger(CommandLineController.class);
+    private static final int PAGE_SIZE = 20;
+    private static final Duration STATISTICS_TIMEOUT = Duration.ofSeconds(10);
 
-    private final Consumer<LibraryItem> printItemDetails = item -> {
+    private final Consumer<LibraryItemSummary> printItemSummary = item -> {
         System.out.print(" - ");
         item.display();
     };
@@ -38,18 +44,19 @@ public class CommandLineController {
         System.out.printf("📚 Title: %s | Available Copies: %d%n", title, count);
     };
 
-    private final Predicate<LibraryItem> isAvailableForBorrowing =
+    private final Predicate<LibraryItemSummary> isAvailableForBorrowing =
             item -> item.getStatus() == LibraryItemStatus.EXIST;
 
-    private CommandLineController(Library library) {
+    private CommandLineController(Library library, AsyncLibrary asyncLibrary) {
         logger.info("Initializing CommandLineController with provided Library");
         this.library = library;
+        this.asyncLibrary = asyncLibrary;
         this.scanner = new Scanner(System.in);
     }
 
-    public static CommandLineController getInstance(Library library) {
+    public static CommandLineController getInstance(Library library, AsyncLibrary asyncLibrary) {
         if (commandLineController == null) {
-            commandLineController = new CommandLineController(library);
+            commandLineController = new CommandLineController(library, asyncLibrary);
             logger.info("Created new instance of CommandLineController");
         }
         return commandLineController;
@@ -137,8 +144,7 @@ public class CommandLineController {
             return;
         }
 
-        var strategy = SearchStrategyFactory.createStrategy(algorithm);
-        var results = performSearchWithStrategy(keyword, strategy);
+        var results = new Vector<>(library.searchSummaries(algorithm, keyword));
 
         logger.info("Search completed for '{}' using {}: found {} results",
                 keyword, algorithm, results.size());
@@ -179,21 +185,13 @@ public class CommandLineController {
         }
     }
 
-    private Vector<LibraryItem> performSearchWithStrategy(String keyword, SearchStrategy strategy) {
-        var allItems = library.getLibraryItems();
-
-        return allItems.parallelStream()
-                .filter(item -> strategy.matches(item, keyword))
-                .collect(Collectors.toCollection(Vector::new));
-    }
-
-    private void displaySearchResults(Vector<LibraryItem> results, String keyword, SearchAlgorithm algorithm) {
+    private void displaySearchResults(Vector<LibraryItemSummary> results, String keyword, SearchAlgorithm algorithm) {
         System.out.println("\n📊 === SEARCH RESULTS ===");
         System.out.println("Search term: '" + keyword + "'");
         System.out.println("Items found: " + results.size());
         System.out.println("=" .repeat(40));
 
-        results.forEach(printItemDetails);
+        results.forEach(printItemSummary);
     }
 
     private LibraryRequest addLibraryItem() {
@@ -475,8 +473,7 @@ public class CommandLineController {
         logger.info("Starting removeLibraryItem process");
         System.out.println("\n🗑️ === REMOVE LIBRARY ITEM ===");
 
-        var libraryItems = library.getLibraryItems();
-        if (libraryItems.isEmpty()) {
+        if (library.getTotalItems() == 0) {
             logger.warn("Remove operation failed: No items in library");
             System.out.println("❌ No items in library!");
             return null;
@@ -486,9 +483,7 @@ public class CommandLineController {
         var title = scanner.nextLine().trim().toLowerCase();
         logger.info("User searching for item to remove with title: '{}'", title);
 
-        var foundItems = libraryItems.stream()
-                .filter(item -> item.getTitle().toLowerCase().contains(title))
-                .collect(Collectors.toCollection(Vector::new));
+        var foundItems = findItemsByTitle(title);
 
         if (foundItems.isEmpty()) {
             logger.warn("No items found for removal with title containing: '{}'", title);
@@ -556,31 +551,26 @@ public class CommandLineController {
     private void listAllLibraryItems() {
         logger.info("Listing all library items");
         System.out.println("\n📖 === ALL LIBRARY ITEMS ===");
-        int itemCount = library.getLibraryItems().size();
-        logger.info("Displaying all {} library items", itemCount);
-        displayLibraryItems( library.getLibraryItems(), "All Items in Library");
+        int itemCount = displayLibraryItems(LibraryItemFilter.all(), "All Items in Library");
+        logger.info("Displayed {} library items", itemCount);
     }
 
     private void sortLibraryItems() {
         logger.info("Starting sortLibraryItems process");
         System.out.println("\n📅 === SORTED LIBRARY ITEMS ===");
 
-        var sortedItems = library.getLibraryItems().stream()
-                .sorted((a, b) -> b.getPublishDate().compareTo(a.getPublishDate()))
-                .collect(Collectors.toCollection(Vector::new));
-
-        logger.info("Sorting completed: {} items sorted by publication date", sortedItems.size());
-
         System.out.println("\n=== Items Sorted by Publication Date (Newest First) ===");
-        sortedItems.forEach(printItemDetails);
+        var sortedCount = new AtomicInteger();
+        library.forEachLibraryItemSummaryNewestFirst(printItemSummary.andThen(item -> sortedCount.incrementAndGet()));
+
+        logger.info("Sorting completed: {} items sorted by publication date", sortedCount.get());
     }
 
     private LibraryRequest updateLibraryItemStatus() {
         logger.info("Starting updateLibraryItemStatus process");
         System.out.println("\n✏️ === UPDATE LIBRARY ITEM STATUS ===");
 
-        var libraryItems = library.getLibraryItems();
-        if (libraryItems.isEmpty()) {
+        if (library.getTotalItems() == 0) {
             logger.warn("Status update failed: No items in library");
             System.out.println("❌ No items in library!");
             return null;
@@ -590,9 +580,7 @@ public class CommandLineController {
         var title = scanner.nextLine().trim().toLowerCase();
         logger.info("User searching for item to update with title: '{}'", title);
 
-        var foundItems = libraryItems.stream()
-                .filter(item -> item.getTitle().toLowerCase().contains(title))
-                .collect(Collectors.toCollection(Vector::new));
+        var foundItems = findItemsByTitle(title);
 
         if (foundItems.isEmpty()) {
             logger.warn("No items found for status update with title containing: '{}'", title);
@@ -662,8 +650,7 @@ public class CommandLineController {
         logger.info("Starting borrowLibraryItem process");
         System.out.println("\n📥 === BORROW LIBRARY ITEM ===");
 
-        var libraryItems = library.getLibraryItems();
-        if (libraryItems.isEmpty()) {
+        if (library.getTotalItems() == 0) {
             logger.warn("Borrow operation failed: No items in library");
             System.out.println("❌ No items in library!");
             return null;
@@ -673,9 +660,7 @@ public class CommandLineController {
         var title = scanner.nextLine().trim().toLowerCase();
         logger.info("User searching for item to borrow with title: '{}'", title);
 
-        var foundItems = libraryItems.stream()
-                .filter(item -> item.getTitle().toLowerCase().contains(title))
-                .collect(Collectors.toCollection(Vector::new));
+        var foundItems = findItemsByTitle(title);
 
         if (foundItems.isEmpty()) {
             logger.warn("No items found for borrowing with title containing: '{}'", title);
@@ -737,9 +722,7 @@ public class CommandLineController {
         logger.info("Starting returnLibraryItem process");
         System.out.println("\n📤 === RETURN LIBRARY ITEM ===");
 
-        var borrowedItems = library.getLibraryItems().stream()
-                .filter(item -> item.getStatus() == LibraryItemStatus.BORROWED)
-                .collect(Collectors.toCollection(Vector::new));
+        var borrowedItems = library.getBorrowedItemSummaries();
 
         if (borrowedItems.isEmpty()) {
             logger.warn("Return operation failed: No borrowed items");
@@ -793,10 +776,7 @@ public class CommandLineController {
         logger.info("Listing borrowed items");
         System.out.println("\n📋 === BORROWED LIBRARY ITEMS ===");
 
-        var borrowedItems = library.getLibraryItems()
-                .parallelStream()
-                .filter(item -> item.getStatus() == LibraryItemStatus.BORROWED)
-                .collect(Collectors.toCollection(Vector::new));
+        var borrowedItems = library.getBorrowedItemSummaries();
 
         if (borrowedItems.isEmpty()) {
             System.out.println("No borrowed items found.");
@@ -825,32 +805,38 @@ public class CommandLineController {
         logger.info("Displaying library statistics");
         System.out.println("\n📊 === LIBRARY STATISTICS ===");
 
-        var libraryItems = library.getLibraryItems();
-
-        var stats = libraryItems.parallelStream()
-                .collect(Collectors.groupingByConcurrent(
-                        LibraryItem::getStatus,
-                        Collectors.counting()
-                ));
+        // The counters and the borrowed list are independent lookups, so they run side by side.
+        var statsFuture = asyncLibrary.getStatistics();
+        var borrowedFuture = asyncLibrary.getBorrowedItemSummaries();
+        LibraryStatistics stats;
+        List<LibraryItemSummary> borrowedItems;
+        try {
+            stats = AsyncLibrary.await(AsyncLibrary.withTimeout(statsFuture, STATISTICS_TIMEOUT));
+            borrowedItems = AsyncLibrary.await(AsyncLibrary.withTimeout(borrowedFuture, STATISTICS_TIMEOUT));
+        } catch (LibraryException e) {
+            logger.error("Failed to load statistics: {}", e.getMessage());
+            System.out.println("❌ Statistics are unavailable right now: " + e.getMessage());
+            return;
+        }
 
-        var totalItems = libraryItems.size();
-        var existCount = stats.getOrDefault(LibraryItemStatus.EXIST, 0L);
-        var borrowedCount = stats.getOrDefault(LibraryItemStatus.BORROWED, 0L);
-        var bannedCount = stats.getOrDefault(LibraryItemStatus.BANNED, 0L);
-
-        var overdueCount = libraryItems.parallelStream()
-                .filter(item -> item.getStatus() == LibraryItemStatus.BORROWED)
-                .filter(item -> item.getReturnDate() != null && item.getReturnDate().isBefore(LocalDate.now()))
-                .count();
+        var totalItems = stats.getTotalItems();
+        var existCount = stats.getCount(LibraryItemStatus.EXIST);
+        var borrowedCount = stats.getCount(LibraryItemStatus.BORROWED);
+        var bannedCount = stats.getCount(LibraryItemStatus.BANNED);
+        var overdueCount = stats.getOverdueCount();
 
         logger.info("Statistics - Total: {}, Available: {}, Borrowed: {}, Banned: {}, Overdue: {}",
                 totalItems, existCount, borrowedCount, bannedCount, overdueCount);
+        logger.info("{}", library.getCacheStatistics());
 
         System.out.println("Total Items: " + totalItems);
         System.out.println("Available (EXIST): " + existCount);
         System.out.println("Borrowed: " + borrowedCount);
         System.out.println("  ├─ On Time: " + (borrowedCount - overdueCount));
         System.out.println("  └─ Overdue: " + overdueCount);
+        borrowedItems.stream()
+                .filter(item -> item.getReturnDate() != null && item.getReturnDate().isBefore(LocalDate.now()))
+                .forEach(item -> System.out.println("       ⚠️  " + item.getTitle() + " (due " + item.getReturnDate() + ")"));
         System.out.println("Banned: " + bannedCount);
 
         if (totalItems > 0) {
@@ -862,17 +848,36 @@ public class CommandLineController {
             System.out.printf("Available: %.1f%%\n", availablePercentage);
             System.out.printf("Borrowed: %.1f%%\n", borrowedPercentage);
             System.out.printf("Banned: %.1f%%\n", bannedPercentage);
+
+            System.out.println("\n📚 By Type:");
+            for (var type : LibraryItemType.values()) {
+                System.out.println(type + ": " + stats.getCount(type));
+            }
         }
     }
 
-    private void displayLibraryItems(List<LibraryItem> items, String title) {
+    private int displayLibraryItems(LibraryItemFilter filter, String title) {
         System.out.println("\n=== " + title + " ===");
         AtomicInteger count = new AtomicInteger();
-        synchronized (items) {
-            items.forEach(item -> {
+        int afterId = 0;
+
+        while (true) {
+            var page = library.getLibraryItemSummariesPage(afterId, PAGE_SIZE, filter);
+            page.getItems().forEach(item -> {
                 System.out.print((count.incrementAndGet()) + ". ");
                 item.display();
             });
+
+            if (!page.hasNext()) {
+                break;
+            }
+
+            System.out.print("-- Shown " + count + " items. Press Enter for more or 'q' to stop: ");
+            if (scanner.nextLine().trim().equalsIgnoreCase("q")) {
+                logger.info("User stopped paging after {} items", count.get());
+                break;
+            }
+            afterId = page.getNextAfterId();
         }
 
         if (count.get() == 0) {
@@ -880,6 +885,11 @@ public class CommandLineController {
         } else {
             System.out.println("--- Total: " + count + " items ---");
         }
+        return count.get();
+    }
+
+    private Vector<LibraryItemSummary> findItemsByTitle(String title) {
+        return new Vector<>(library.searchSummaries(SearchAlgorithm.SEARCH_BY_TITLE_IGNORE_CASE, title));
     }
 
     public LibraryResult processRequest(LibraryRequest request, Library library) {
@@ -894,47 +904,17 @@ public class CommandLineController {
                 }
                 case DELETE -> {
                     var itemToDelete = library.getLibraryItemById(request.getItemId());
-                    if (itemToDelete != null) {
-                        library.removeLibraryItem(itemToDelete);
+                    if (itemToDelete != null && library.removeLibraryItem(itemToDelete)) {
                         yield new LibraryResult(true,
                                 String.format("Item '%s' deleted successfully", itemToDelete.getTitle()));
                     }
                     yield new LibraryResult(false, "Item not found");
                 }
-                case BORROW -> {
-                    var borrowSuccess = library.borrowItem(request.getItemId(), request.getReturnDate());
-                    var borrowedItem = library.getLibraryItemById(request.getItemId());
-                    if (borrowSuccess) {
-                        yield new LibraryResult(true,
-                                String.format("Item '%s' borrowed successfully. Due: %s",
-                                        borrowedItem.getTitle(), request.getReturnDate()));
-                    }
-                    yield new LibraryResult(false,
-                            String.format("Failed to borrow item '%s'. It may not be available.",
-                                    borrowedItem != null ? borrowedItem.getTitle() : "Unknown"));
-                }
-                case RETURN -> {
-                    var returnSuccess = library.returnItem(request.getItemId());
-                    var returnedItem = library.getLibraryItemById(request.getItemId());
-                    if (returnSuccess) {
-                        yield new LibraryResult(true,
-                                String.format("Item '%s' returned successfully", returnedItem.getTitle()));
-                    }
-                    yield new LibraryResult(false,
-                            String.format("Failed to return item '%s'. It may not be borrowed.",
-                                    returnedItem != null ? returnedItem.getTitle() : "Unknown"));
-                }
-                case UPDATE_STATUS -> {
-                    var newStatus = LibraryItemStatus.valueOf(request.getNewStatus());
-                    var success = library.updateItemStatus(request.getItemId(), newStatus);
-                    var updatedItem = library.getLibraryItemById(request.getItemId());
-                    if (success) {
-                        yield new LibraryResult(true,
-                                String.format("Item '%s' status changed to %s",
-                                        updatedItem.getTitle(), newStatus));
-                    }
-                    yield new LibraryResult(false, "Item not found or status update failed");
-                }
+                case BORROW -> toLoanResult(request,
+                        library.borrowItemAndGet(request.getItemId(), request.getReturnDate()));
+                case RETURN -> toLoanResult(request, library.returnItemAndGet(request.getItemId()));
+                case UPDATE_STATUS -> toLoanResult(request, library.updateItemStatusAndGet(request.getItemId(),
+                        LibraryItemStatus.valueOf(request.getNewStatus())));
                 default -> new LibraryResult(false, "Unknown request type");
             };
         } catch (Exception e) {
@@ -942,6 +922,64 @@ public class CommandLineController {
         }
     }
 
+    public List<LibraryResult> processLoanRequests(List<LibraryRequest> requests, Library library) {
+        LibraryResult[] results = new LibraryResult[requests.size()];
+        List<LoanOperation> operations = new ArrayList<>(requests.size());
+        List<Integer> positions = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            LibraryRequest request = requests.get(i);
+            try {
+                operations.add(switch (request.getRequestType()) {
+                    case BORROW -> LoanOperation.borrow(request.getItemId(), request.getReturnDate());
+                    case RETURN -> LoanOperation.returnItem(request.getItemId());
+                    case UPDATE_STATUS -> LoanOperation.updateStatus(request.getItemId(),
+                            LibraryItemStatus.valueOf(request.getNewStatus()));
+                    default -> throw new IllegalArgumentException("Not a loan request: " + request.getRequestType());
+                });
+                positions.add(i);
+            } catch (Exception e) {
+                results[i] = new LibraryResult(false, "Error processing request: " + e.getMessage());
+            }
+        }
+
+        try {
+            List<LoanOutcome> outcomes = library.applyLoanOperations(operations);
+            for (int j = 0; j < outcomes.size(); j++) {
+                int i = positions.get(j);
+                LoanOutcome outcome = outcomes.get(j);
+                results[i] = outcome.getError() != null
+                        ? new LibraryResult(false, "Error processing request: " + outcome.getError())
+                        : toLoanResult(requests.get(i), outcome);
+            }
+        } catch (Exception e) {
+            for (int i : positions) {
+                results[i] = new LibraryResult(false, "Error processing request: " + e.getMessage());
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private LibraryResult toLoanResult(LibraryRequest request, LoanOutcome outcome) {
+        var item = outcome.getItem();
+        return switch (request.getRequestType()) {
+            case BORROW -> outcome.isSuccess()
+                    ? new LibraryResult(true, String.format("Item '%s' borrowed successfully. Due: %s",
+                            item.getTitle(), request.getReturnDate()))
+                    : new LibraryResult(false, String.format("Failed to borrow item '%s'. It may not be available.",
+                            item != null ? item.getTitle() : "Unknown"));
+            case RETURN -> outcome.isSuccess()
+                    ? new LibraryResult(true, String.format("Item '%s' returned successfully", item.getTitle()))
+                    : new LibraryResult(false, String.format("Failed to return item '%s'. It may not be borrowed.",
+                            item != null ? item.getTitle() : "Unknown"));
+            default -> outcome.isSuccess()
+                    ? new LibraryResult(true, String.format("Item '%s' status changed to %s",
+                            item.getTitle(), request.getNewStatus()))
+                    : new LibraryResult(false, "Item not found or status update failed");
+        };
+    }
+
     public void exitProgram() {
         logger.info("Initiating program exit sequence");
         System.out.println("\n💾 All data is automatically saved to database");
@@ -48,6 +48,11 @@ public class DatabaseConnection {
             dataSource.setMinIdle(Integer.parseInt(properties.getProperty("db.pool.minIdle", "5")));
             dataSource.setMaxWaitMillis(Long.parseLong(properties.getProperty("db.pool.maxWaitMillis", "10000")));
 
+            dataSource.addConnectionProperty("useCursorFetch",
+                    properties.getProperty("db.useCursorFetch", "true"));
+            dataSource.addConnectionProperty("rewriteBatchedStatements",
+                    properties.getProperty("db.rewriteBatchedStatements", "true"));
+
             dataSource.setValidationQuery("SELECT 1");
             dataSource.setTestOnBorrow(true);
             dataSource.setTestWhileIdle(true);
@@ -55,6 +60,9 @@ public class DatabaseConnection {
             logger.info("Database connection pool initialized successfully");
 
             try (Connection testConn = dataSource.getConnection()) {
+                if (!testConn.isValid(5)) {
+                    throw new SQLException("Test connection is not valid");
+                }
                 logger.info("Test connection successful");
             }
 
@@ -104,6 +112,14 @@ public class DatabaseConnection {
         return 1;
     }
 
+    public static String getProperty(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    public static int getIntProperty(String key, int defaultValue) {
+        return Integer.parseInt(properties.getProperty(key, String.valueOf(defaultValue)));
+    }
+
     public static void shutdown() {
         if (dataSource != null) {
             try {
@@ -0,0 +1,23 @@
+package library.database.dao;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+// Thrown by saveAll when a later chunk fails after earlier chunks were already committed.
+// The committed ids belong to the first items of the input, in input order.
+public class BatchSaveException extends SQLException {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] committedIds;
+
+    public BatchSaveException(List<Integer> committedIds, SQLException cause) {
+        super("Batch save failed after " + committedIds.size() + " items were committed: " + cause.getMessage(),
+                cause.getSQLState(), cause.getErrorCode(), cause);
+        this.committedIds = committedIds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public List<Integer> getCommittedIds() {
+        return Arrays.stream(committedIds).boxed().toList();
+    }
+}
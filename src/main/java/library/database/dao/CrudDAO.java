@@ -2,13 +2,19 @@ package library.database.dao;
 
 import library.models.LibraryItem;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CrudDAO<T> {
     int save(T item) throws SQLException;
+    List<Integer> saveAll(Collection<T> items) throws SQLException;
+    List<Integer> saveAll(Collection<T> items, int chunkSize, int commitInterval) throws SQLException;
     boolean update(T item) throws SQLException;
     boolean delete(int id) throws SQLException;
+    Optional<T> deleteAndFetch(int id) throws SQLException;
     Optional<T> findById(int id) throws SQLException;
+    Map<Integer, T> findByIds(Collection<Integer> ids) throws SQLException;
     List<T> findAll() throws SQLException;
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import library.models.LibraryItem;
 public interface LibraryItemDAO extends
         CrudDAO<LibraryItem>,
         SearchableLibraryItemDAO,
+        SummaryLibraryItemDAO,
+        StreamableLibraryItemDAO,
         LoanableDAO,
         LibraryStatisticsDAO {
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package library.database.dao;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
 
 public interface LibraryItemDetailDAO<T> {
     void save(int itemId, T item, Connection connection) throws SQLException;
+    void saveBatch(Map<Integer, T> itemsById, Connection connection) throws SQLException;
     void update(T item, Connection connection) throws SQLException;
     T findById(int id) throws SQLException;
+    List<T> findByIds(List<Integer> ids, Connection connection) throws SQLException;
+    T extractFromResultSet(ResultSet resultSet) throws SQLException;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package library.database.dao;
 
+import library.models.LibraryStatistics;
 import library.models.enums.LibraryItemStatus;
 import java.sql.SQLException;
 
@@ -7,4 +8,5 @@ public interface LibraryStatisticsDAO {
     int countByStatus(LibraryItemStatus status) throws SQLException;
     int countAll() throws SQLException;
     int countOverdueItems() throws SQLException;
+    LibraryStatistics snapshot() throws SQLException;
 }
\ No newline at end of file
@@ -1,11 +1,18 @@
 package library.database.dao;
 
+import library.models.LoanOperation;
+import library.models.LoanOutcome;
 import library.models.enums.LibraryItemStatus;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.List;
 
 public interface LoanableDAO {
     boolean borrowItem(int itemId, int userId, LocalDate returnDate) throws SQLException;
     boolean returnItem(int itemId) throws SQLException;
     boolean updateStatus(int itemId, LibraryItemStatus status) throws SQLException;
+    LoanOutcome borrowItemAndFetch(int itemId, int userId, LocalDate returnDate) throws SQLException;
+    LoanOutcome returnItemAndFetch(int itemId) throws SQLException;
+    LoanOutcome updateStatusAndFetch(int itemId, LibraryItemStatus status) throws SQLException;
+    List<LoanOutcome> applyLoanOperations(List<LoanOperation> operations) throws SQLException;
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package library.database.dao;
 
 import library.models.LibraryItem;
+import library.models.LibraryItemFilter;
+import library.models.Page;
 import library.models.enums.LibraryItemStatus;
 import java.sql.SQLException;
 import java.util.List;
@@ -9,4 +11,6 @@ public interface SearchableLibraryItemDAO {
     List<LibraryItem> findByTitle(String title) throws SQLException;
     List<LibraryItem> findByAuthor(String author) throws SQLException;
     List<LibraryItem> findByStatus(LibraryItemStatus status) throws SQLException;
+    List<LibraryItem> findWhere(String condition, Object... params) throws SQLException;
+    Page<LibraryItem> findPage(int afterId, int limit, LibraryItemFilter filter) throws SQLException;
 }
\ No newline at end of file
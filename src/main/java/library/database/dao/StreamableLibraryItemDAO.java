@@ -0,0 +1,12 @@
+package library.database.dao;
+
+import library.models.LibraryItem;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public interface StreamableLibraryItemDAO {
+    Stream<LibraryItem> streamAll() throws SQLException;
+    Stream<LibraryItem> streamAllByPublishDateDesc() throws SQLException;
+    void forEachItem(Consumer<? super LibraryItem> action) throws SQLException;
+}
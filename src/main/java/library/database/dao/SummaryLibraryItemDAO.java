@@ -0,0 +1,18 @@
+package library.database.dao;
+
+import library.models.LibraryItemFilter;
+import library.models.LibraryItemSummary;
+import library.models.Page;
+import library.models.enums.LibraryItemStatus;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface SummaryLibraryItemDAO {
+    List<LibraryItemSummary> findSummariesByStatus(LibraryItemStatus status) throws SQLException;
+    List<LibraryItemSummary> findSummariesWhere(String condition, Object... params) throws SQLException;
+    List<LibraryItemSummary> findSummariesByIds(Collection<Integer> ids) throws SQLException;
+    Page<LibraryItemSummary> findSummaryPage(int afterId, int limit, LibraryItemFilter filter) throws SQLException;
+    void forEachSummaryByPublishDateDesc(Consumer<? super LibraryItemSummary> action) throws SQLException;
+}
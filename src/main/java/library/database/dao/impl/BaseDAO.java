@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 public abstract class BaseDAO {
     protected final Logger logger = LoggerFactory.getLogger(getClass());
@@ -14,6 +15,10 @@ public abstract class BaseDAO {
         return DBUtil.getConnection();
     }
 
+    protected void applyQueryTimeout(Statement statement) throws SQLException {
+        DBUtil.applyQueryTimeout(statement);
+    }
+
     protected void closeConnection(Connection conn) {
         DBUtil.closeConnection(conn);
     }
@@ -10,6 +10,9 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class BookDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Book> {
     private static final String INSERT_BOOK = """
@@ -18,17 +21,17 @@ public class BookDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Book> {
     """;
 
     private static final String UPDATE_BOOK = """
-        UPDATE book 
+        UPDATE book
         SET isbn = ?, genre = ?, page_count = ?
         WHERE item_id = ?
     """;
 
-    private static final String FIND_BOOK_BY_ID = """
+    private static final String SELECT_BOOK = """
         SELECT li.*, b.isbn, b.genre, b.page_count
         FROM library_item li
         JOIN book b ON li.id = b.item_id
-        WHERE li.id = ?
     """;
+    private static final String FIND_BOOK_BY_ID = SELECT_BOOK + "WHERE li.id = ?";
 
     @Override
     public void save(int itemId, Book book, Connection connection) throws SQLException {
@@ -36,6 +39,14 @@ public class BookDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Book> {
                 itemId, book.getIsbn(), book.getGenre(), book.getPageCount());
     }
 
+    @Override
+    public void saveBatch(Map<Integer, Book> booksById, Connection connection) throws SQLException {
+        List<Object[]> rows = new ArrayList<>(booksById.size());
+        booksById.forEach((itemId, book) ->
+                rows.add(new Object[]{itemId, book.getIsbn(), book.getGenre(), book.getPageCount()}));
+        DBUtil.executeBatch(connection, INSERT_BOOK, rows);
+    }
+
     @Override
     public void update(Book book, Connection connection) throws SQLException {
         DBUtil.executeUpdate(connection, UPDATE_BOOK,
@@ -44,10 +55,17 @@ public class BookDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Book> {
 
     @Override
     public Book findById(int id) throws SQLException {
-        return DBUtil.executeQueryAndMap(FIND_BOOK_BY_ID, this::extractBookFromResultSet, id);
+        return DBUtil.executeQueryAndMap(FIND_BOOK_BY_ID, this::extractFromResultSet, id);
     }
 
-    private Book extractBookFromResultSet(ResultSet resultSet) throws SQLException {
+    @Override
+    public List<Book> findByIds(List<Integer> ids, Connection connection) throws SQLException {
+        return DBUtil.executeQueryAndMapList(connection, SELECT_BOOK + DBUtil.inClause("li.id", ids.size()),
+                this::extractFromResultSet, ids.toArray());
+    }
+
+    @Override
+    public Book extractFromResultSet(ResultSet resultSet) throws SQLException {
         int id = resultSet.getInt("id");
         String title = resultSet.getString("title");
         String author = resultSet.getString("author");
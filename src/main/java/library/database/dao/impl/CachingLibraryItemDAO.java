@@ -0,0 +1,459 @@
+package library.database.dao.impl;
+
+import library.config.LibrarySettings;
+import library.database.dao.BatchSaveException;
+import library.database.dao.LibraryItemDAO;
+import library.models.LibraryItem;
+import library.models.LibraryItemFilter;
+import library.models.LibraryItemSummary;
+import library.models.LibraryStatistics;
+import library.models.LoanOperation;
+import library.models.LoanOutcome;
+import library.models.Page;
+import library.models.enums.LibraryItemStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class CachingLibraryItemDAO implements LibraryItemDAO {
+    private static final Logger logger = LoggerFactory.getLogger(CachingLibraryItemDAO.class);
+
+    private final LibraryItemDAO delegate;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    // Holds private copies; callers always receive their own instance, never the cached one.
+    private final Map<Integer, CacheEntry> entries;
+
+    // Bumped on every write so a read that raced with it does not cache a stale row.
+    private final AtomicLong writeEpoch = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public CachingLibraryItemDAO(LibraryItemDAO delegate) {
+        this(delegate, LibrarySettings.getCacheMaxSize(), LibrarySettings.getCacheTtlSeconds(),
+                LibrarySettings.getCacheNegativeTtlSeconds());
+    }
+
+    public CachingLibraryItemDAO(LibraryItemDAO delegate, int maxSize, long ttlSeconds, long negativeTtlSeconds) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CacheEntry> eldest) {
+                if (size() > CachingLibraryItemDAO.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        logger.info("Item cache enabled - max size: {}, TTL: {}s, negative TTL: {}s",
+                maxSize, ttlSeconds, negativeTtlSeconds);
+    }
+
+    @Override
+    public Optional<LibraryItem> findById(int id) throws SQLException {
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            CacheEntry entry = entries.get(id);
+            if (entry != null) {
+                if (entry.expiresAt - now > 0) {
+                    if (entry.item == null) {
+                        negativeHits.increment();
+                    } else {
+                        hits.increment();
+                    }
+                    return Optional.ofNullable(entry.item).map(LibraryItem::copy);
+                }
+                entries.remove(id);
+                expirations.increment();
+            }
+        }
+
+        misses.increment();
+        long epoch = writeEpoch.get();
+        Optional<LibraryItem> item = delegate.findById(id);
+
+        synchronized (entries) {
+            if (writeEpoch.get() == epoch) {
+                long ttl = item.isPresent() ? ttlNanos : negativeTtlNanos;
+                entries.put(id, new CacheEntry(item.map(LibraryItem::copy).orElse(null), System.nanoTime() + ttl));
+            }
+        }
+        return item;
+    }
+
+    // Serves what it can from the cache and loads the rest with one batched lookup.
+    @Override
+    public Map<Integer, LibraryItem> findByIds(Collection<Integer> ids) throws SQLException {
+        Map<Integer, LibraryItem> cached = new HashMap<>();
+        Set<Integer> missing = new LinkedHashSet<>();
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            for (Integer id : ids) {
+                if (cached.containsKey(id) || missing.contains(id)) {
+                    continue;
+                }
+                CacheEntry entry = entries.get(id);
+                if (entry != null && entry.expiresAt - now > 0) {
+                    if (entry.item == null) {
+                        negativeHits.increment();
+                    } else {
+                        hits.increment();
+                    }
+                    cached.put(id, entry.item != null ? entry.item.copy() : null);
+                } else {
+                    if (entry != null) {
+                        entries.remove(id);
+                        expirations.increment();
+                    }
+                    missing.add(id);
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            long epoch = writeEpoch.get();
+            Map<Integer, LibraryItem> loaded = delegate.findByIds(missing);
+
+            synchronized (entries) {
+                boolean cacheable = writeEpoch.get() == epoch;
+                long loadedAt = System.nanoTime();
+                for (Integer id : missing) {
+                    LibraryItem item = loaded.get(id);
+                    cached.put(id, item);
+                    if (cacheable) {
+                        entries.put(id, new CacheEntry(item != null ? item.copy() : null,
+                                loadedAt + (item != null ? ttlNanos : negativeTtlNanos)));
+                    }
+                }
+            }
+        }
+
+        Map<Integer, LibraryItem> itemsById = new LinkedHashMap<>();
+        for (Integer id : ids) {
+            LibraryItem item = cached.get(id);
+            if (item != null) {
+                itemsById.put(id, item);
+            }
+        }
+        return itemsById;
+    }
+
+    @Override
+    public int save(LibraryItem item) throws SQLException {
+        int generatedId = delegate.save(item);
+        invalidate(generatedId);
+        return generatedId;
+    }
+
+    @Override
+    public List<Integer> saveAll(Collection<LibraryItem> items) throws SQLException {
+        try {
+            return invalidateAll(delegate.saveAll(items));
+        } catch (BatchSaveException e) {
+            invalidateAll(e.getCommittedIds());
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Integer> saveAll(Collection<LibraryItem> items, int chunkSize, int commitInterval) throws SQLException {
+        try {
+            return invalidateAll(delegate.saveAll(items, chunkSize, commitInterval));
+        } catch (BatchSaveException e) {
+            invalidateAll(e.getCommittedIds());
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean update(LibraryItem item) throws SQLException {
+        try {
+            return delegate.update(item);
+        } finally {
+            invalidate(item.getId());
+        }
+    }
+
+    @Override
+    public boolean delete(int id) throws SQLException {
+        try {
+            return delegate.delete(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public Optional<LibraryItem> deleteAndFetch(int id) throws SQLException {
+        try {
+            return delegate.deleteAndFetch(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean borrowItem(int itemId, int userId, LocalDate returnDate) throws SQLException {
+        try {
+            return delegate.borrowItem(itemId, userId, returnDate);
+        } finally {
+            invalidate(itemId);
+        }
+    }
+
+    @Override
+    public boolean returnItem(int itemId) throws SQLException {
+        try {
+            return delegate.returnItem(itemId);
+        } finally {
+            invalidate(itemId);
+        }
+    }
+
+    @Override
+    public boolean updateStatus(int itemId, LibraryItemStatus status) throws SQLException {
+        try {
+            return delegate.updateStatus(itemId, status);
+        } finally {
+            invalidate(itemId);
+        }
+    }
+
+    @Override
+    public LoanOutcome borrowItemAndFetch(int itemId, int userId, LocalDate returnDate) throws SQLException {
+        return refresh(itemId, () -> delegate.borrowItemAndFetch(itemId, userId, returnDate));
+    }
+
+    @Override
+    public LoanOutcome returnItemAndFetch(int itemId) throws SQLException {
+        return refresh(itemId, () -> delegate.returnItemAndFetch(itemId));
+    }
+
+    @Override
+    public LoanOutcome updateStatusAndFetch(int itemId, LibraryItemStatus status) throws SQLException {
+        return refresh(itemId, () -> delegate.updateStatusAndFetch(itemId, status));
+    }
+
+    @Override
+    public List<LoanOutcome> applyLoanOperations(List<LoanOperation> operations) throws SQLException {
+        List<Integer> ids = new ArrayList<>(operations.size());
+        operations.forEach(operation -> ids.add(operation.getItemId()));
+        try {
+            return delegate.applyLoanOperations(operations);
+        } finally {
+            invalidateAll(ids);
+        }
+    }
+
+    // Caches the row the write returned, unless another write landed while it ran: two writes to the same
+    // id can finish in either order, so the snapshot is only trusted when nothing else was written meanwhile.
+    private LoanOutcome refresh(int itemId, LoanCall call) throws SQLException {
+        long epoch = writeEpoch.get();
+        LoanOutcome outcome;
+        try {
+            outcome = call.execute();
+        } catch (SQLException | RuntimeException e) {
+            invalidate(itemId);
+            throw e;
+        }
+
+        synchronized (entries) {
+            if (writeEpoch.getAndIncrement() == epoch) {
+                long ttl = outcome.isItemFound() ? ttlNanos : negativeTtlNanos;
+                LibraryItem item = outcome.getItem();
+                entries.put(itemId, new CacheEntry(item != null ? item.copy() : null, System.nanoTime() + ttl));
+            } else if (entries.remove(itemId) != null) {
+                invalidations.increment();
+            }
+        }
+        return outcome;
+    }
+
+    @Override
+    public List<LibraryItem> findAll() throws SQLException {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<LibraryItem> findByTitle(String title) throws SQLException {
+        return delegate.findByTitle(title);
+    }
+
+    @Override
+    public List<LibraryItem> findByAuthor(String author) throws SQLException {
+        return delegate.findByAuthor(author);
+    }
+
+    @Override
+    public List<LibraryItem> findByStatus(LibraryItemStatus status) throws SQLException {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public List<LibraryItem> findWhere(String condition, Object... params) throws SQLException {
+        return delegate.findWhere(condition, params);
+    }
+
+    @Override
+    public Page<LibraryItem> findPage(int afterId, int limit, LibraryItemFilter filter) throws SQLException {
+        return delegate.findPage(afterId, limit, filter);
+    }
+
+    @Override
+    public List<LibraryItemSummary> findSummariesByStatus(LibraryItemStatus status) throws SQLException {
+        return delegate.findSummariesByStatus(status);
+    }
+
+    @Override
+    public List<LibraryItemSummary> findSummariesWhere(String condition, Object... params) throws SQLException {
+        return delegate.findSummariesWhere(condition, params);
+    }
+
+    @Override
+    public List<LibraryItemSummary> findSummariesByIds(Collection<Integer> ids) throws SQLException {
+        return delegate.findSummariesByIds(ids);
+    }
+
+    @Override
+    public Page<LibraryItemSummary> findSummaryPage(int afterId, int limit, LibraryItemFilter filter) throws SQLException {
+        return delegate.findSummaryPage(afterId, limit, filter);
+    }
+
+    @Override
+    public void forEachSummaryByPublishDateDesc(Consumer<? super LibraryItemSummary> action) throws SQLException {
+        delegate.forEachSummaryByPublishDateDesc(action);
+    }
+
+    @Override
+    public Stream<LibraryItem> streamAll() throws SQLException {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Stream<LibraryItem> streamAllByPublishDateDesc() throws SQLException {
+        return delegate.streamAllByPublishDateDesc();
+    }
+
+    @Override
+    public void forEachItem(Consumer<? super LibraryItem> action) throws SQLException {
+        delegate.forEachItem(action);
+    }
+
+    @Override
+    public int countByStatus(LibraryItemStatus status) throws SQLException {
+        return delegate.countByStatus(status);
+    }
+
+    @Override
+    public int countAll() throws SQLException {
+        return delegate.countAll();
+    }
+
+    @Override
+    public int countOverdueItems() throws SQLException {
+        return delegate.countOverdueItems();
+    }
+
+    @Override
+    public LibraryStatistics snapshot() throws SQLException {
+        return delegate.snapshot();
+    }
+
+    public void invalidate(int id) {
+        synchronized (entries) {
+            writeEpoch.incrementAndGet();
+            if (entries.remove(id) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            writeEpoch.incrementAndGet();
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    private List<Integer> invalidateAll(List<Integer> ids) {
+        synchronized (entries) {
+            writeEpoch.incrementAndGet();
+            for (Integer id : ids) {
+                if (entries.remove(id) != null) {
+                    invalidations.increment();
+                }
+            }
+        }
+        return ids;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() { return hits.sum(); }
+    public long getNegativeHitCount() { return negativeHits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getEvictionCount() { return evictions.sum(); }
+    public long getExpirationCount() { return expirations.sum(); }
+    public long getInvalidationCount() { return invalidations.sum(); }
+
+    public double getHitRatio() {
+        long hitCount = getHitCount() + getNegativeHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Item cache - size: %d/%d, hits: %d, negative hits: %d, misses: %d, evictions: %d, expirations: %d, invalidations: %d",
+                size(), maxSize, getHitCount(), getNegativeHitCount(), getMissCount(),
+                getEvictionCount(), getExpirationCount(), getInvalidationCount());
+    }
+
+    private interface LoanCall {
+        LoanOutcome execute() throws SQLException;
+    }
+
+    private static final class CacheEntry {
+        private final LibraryItem item;
+        private final long expiresAt;
+
+        private CacheEntry(LibraryItem item, long expiresAt) {
+            this.item = item;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
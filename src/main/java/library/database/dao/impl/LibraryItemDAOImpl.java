@@ -5,11 +5,24 @@ import library.database.util.DBUtil;
 import library.models.*;
 import library.models.enums.LibraryItemStatus;
 import library.models.enums.LibraryItemType;
+import library.search.strategies.SqlPredicate;
 
 import java.sql.*;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
     private static final String INSERT_ITEM = """
@@ -18,25 +31,49 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
     """;
 
     private static final String UPDATE_ITEM = """
-        UPDATE library_item 
-        SET title = ?, author = ?, publish_date = ?, status = ?, type = ?, 
+        UPDATE library_item
+        SET title = ?, author = ?, publish_date = ?, status = ?, type = ?,
             return_date = ?, user_id = ?
         WHERE id = ?
     """;
 
     private static final String DELETE_ITEM = "DELETE FROM library_item WHERE id = ?";
-    private static final String FIND_BY_ID = "SELECT * FROM library_item WHERE id = ?";
-    private static final String FIND_BY_TITLE = "SELECT * FROM library_item WHERE title LIKE ?";
-    private static final String FIND_BY_AUTHOR = "SELECT * FROM library_item WHERE author LIKE ?";
-    private static final String FIND_BY_STATUS = "SELECT * FROM library_item WHERE status = ?";
-    private static final String FIND_ALL = "SELECT * FROM library_item ORDER BY id";
+    private static final String DEADLOCK_SQL_STATE = "40001";
+    private static final int MAX_GROUP_ATTEMPTS = 3;
+    private static final String LOCK_STATUS = "SELECT status FROM library_item WHERE id = ? FOR UPDATE";
+    private static final String SELECT_HYDRATED_ITEM = """
+        SELECT li.*,
+               b.isbn, b.genre, b.page_count,
+               m.issue_number, m.publisher, m.category,
+               r.reference_type, r.edition, r.subject,
+               t.university, t.department, t.advisor
+        FROM library_item li
+        LEFT JOIN book b ON li.type = 'BOOK' AND li.id = b.item_id
+        LEFT JOIN magazine m ON li.type = 'MAGAZINE' AND li.id = m.item_id
+        LEFT JOIN reference r ON li.type = 'REFERENCE' AND li.id = r.item_id
+        LEFT JOIN thesis t ON li.type = 'THESIS' AND li.id = t.item_id
+    """;
+    private static final String FIND_BY_ID = SELECT_HYDRATED_ITEM + "WHERE li.id = ?";
+    private static final String FIND_BY_TITLE = SELECT_HYDRATED_ITEM + "WHERE li.title LIKE ?";
+    private static final String FIND_BY_AUTHOR = SELECT_HYDRATED_ITEM + "WHERE li.author LIKE ?";
+    private static final String FIND_BY_STATUS = SELECT_HYDRATED_ITEM + "WHERE li.status = ?";
+    private static final String FIND_ALL = SELECT_HYDRATED_ITEM + "ORDER BY li.id";
+    private static final String FIND_ALL_BY_PUBLISH_DATE_DESC = SELECT_HYDRATED_ITEM + "ORDER BY li.publish_date DESC, li.id";
+    private static final String FIND_PAGE = SELECT_HYDRATED_ITEM + "WHERE li.id > ?";
+    private static final String SELECT_SUMMARY = """
+        SELECT li.id, li.title, li.author, li.type, li.status, li.return_date
+        FROM library_item li
+    """;
+    private static final String FIND_SUMMARY_PAGE = SELECT_SUMMARY + "WHERE li.id > ?";
+    private static final String FIND_SUMMARIES_BY_STATUS = SELECT_SUMMARY + "WHERE li.status = ? ORDER BY li.id";
+    private static final String FIND_SUMMARIES_BY_PUBLISH_DATE_DESC = SELECT_SUMMARY + "ORDER BY li.publish_date DESC, li.id";
     private static final String BORROW_ITEM = """
-        UPDATE library_item 
+        UPDATE library_item
         SET status = 'BORROWED', return_date = ?, user_id = ?
         WHERE id = ? AND status = 'EXIST'
     """;
     private static final String RETURN_ITEM = """
-        UPDATE library_item 
+        UPDATE library_item
         SET status = 'EXIST', return_date = NULL, user_id = NULL
         WHERE id = ? AND status = 'BORROWED'
     """;
@@ -44,9 +81,19 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
     private static final String COUNT_BY_STATUS = "SELECT COUNT(*) FROM library_item WHERE status = ?";
     private static final String COUNT_ALL = "SELECT COUNT(*) FROM library_item";
     private static final String COUNT_OVERDUE = """
-        SELECT COUNT(*) FROM library_item 
+        SELECT COUNT(*) FROM library_item
         WHERE status = 'BORROWED' AND return_date < CURDATE()
     """;
+    private static final String STATISTICS_SNAPSHOT = """
+        SELECT type,
+               COUNT(*) AS total_count,
+               SUM(status = 'EXIST') AS exist_count,
+               SUM(status = 'BORROWED') AS borrowed_count,
+               SUM(status = 'BANNED') AS banned_count,
+               SUM(status = 'BORROWED' AND return_date < CURDATE()) AS overdue_count
+        FROM library_item
+        GROUP BY type
+    """;
 
     private final LibraryItemDetailDAO<Book> bookDAO;
     private final LibraryItemDetailDAO<Magazine> magazineDAO;
@@ -71,6 +118,7 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
             connection.setAutoCommit(false);
 
             preparedStatement = connection.prepareStatement(INSERT_ITEM, Statement.RETURN_GENERATED_KEYS);
+            applyQueryTimeout(preparedStatement);
             setItemParameters(preparedStatement, item);
             preparedStatement.setInt(7, getDefaultUserId());
 
@@ -85,6 +133,7 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
                 int generatedId = generatedKeys.getInt(1);
                 saveSpecificItem(generatedId, item, connection);
                 commitTransaction(connection);
+                item.setId(generatedId);
                 logger.info("Saved {} with ID: {}", item.getClass().getSimpleName(), generatedId);
                 return generatedId;
             } else {
@@ -100,6 +149,111 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
         }
     }
 
+    @Override
+    public List<Integer> saveAll(Collection<LibraryItem> items) throws SQLException {
+        return saveAll(items, DBUtil.getBatchChunkSize(), DBUtil.getBatchCommitInterval());
+    }
+
+    @Override
+    public List<Integer> saveAll(Collection<LibraryItem> items, int chunkSize, int commitInterval) throws SQLException {
+        if (chunkSize <= 0 || commitInterval <= 0) {
+            throw new IllegalArgumentException("Chunk size and commit interval must be positive");
+        }
+
+        List<Integer> generatedIds = new ArrayList<>(items.size());
+        if (items.isEmpty()) {
+            return generatedIds;
+        }
+
+        List<LibraryItem> itemList = new ArrayList<>(items);
+        Connection connection = null;
+        int committedCount = 0;
+
+        try {
+            connection = getConnection();
+            connection.setAutoCommit(false);
+
+            for (int start = 0; start < itemList.size(); start += chunkSize) {
+                List<LibraryItem> chunk = itemList.subList(start, Math.min(start + chunkSize, itemList.size()));
+                generatedIds.addAll(saveChunk(chunk, connection));
+
+                boolean last = start + chunkSize >= itemList.size();
+                if (last || generatedIds.size() - committedCount >= commitInterval) {
+                    commitTransaction(connection);
+                    // Ids go onto the items only once their rows are durable, never for a rolled-back chunk.
+                    for (int i = committedCount; i < generatedIds.size(); i++) {
+                        itemList.get(i).setId(generatedIds.get(i));
+                    }
+                    committedCount = generatedIds.size();
+                    if (!last) {
+                        connection.setAutoCommit(false);
+                    }
+                }
+            }
+
+            logger.info("Saved {} library items in chunks of {}", generatedIds.size(), chunkSize);
+            return generatedIds;
+
+        } catch (SQLException e) {
+            rollbackTransaction(connection);
+            logger.error("Error saving library items in batch ({} committed before failure): {}",
+                    committedCount, e.getMessage());
+            if (committedCount > 0) {
+                throw new BatchSaveException(generatedIds.subList(0, committedCount), e);
+            }
+            throw e;
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    private List<Integer> saveChunk(List<LibraryItem> chunk, Connection connection) throws SQLException {
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        for (LibraryItem item : chunk) {
+            rows.add(new Object[]{item.getTitle(), item.getAuthor(), item.getPublishDate(), item.getStatus(),
+                    item.getType(), item.getReturnDate(), getDefaultUserId()});
+        }
+        List<Integer> ids = DBUtil.executeBatchReturningKeys(connection, INSERT_ITEM, rows);
+
+        if (ids.size() != chunk.size()) {
+            throw new SQLException("Creating library items failed, got " + ids.size()
+                    + " IDs for " + chunk.size() + " rows.");
+        }
+
+        saveSpecificItems(chunk, ids, connection);
+        return ids;
+    }
+
+    private void saveSpecificItems(List<LibraryItem> chunk, List<Integer> ids, Connection connection) throws SQLException {
+        Map<Integer, Book> books = new LinkedHashMap<>();
+        Map<Integer, Magazine> magazines = new LinkedHashMap<>();
+        Map<Integer, Reference> references = new LinkedHashMap<>();
+        Map<Integer, Thesis> theses = new LinkedHashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            LibraryItem item = chunk.get(i);
+            switch (item.getType()) {
+                case BOOK:
+                    books.put(ids.get(i), (Book) item);
+                    break;
+                case MAGAZINE:
+                    magazines.put(ids.get(i), (Magazine) item);
+                    break;
+                case REFERENCE:
+                    references.put(ids.get(i), (Reference) item);
+                    break;
+                case THESIS:
+                    theses.put(ids.get(i), (Thesis) item);
+                    break;
+            }
+        }
+
+        if (!books.isEmpty()) bookDAO.saveBatch(books, connection);
+        if (!magazines.isEmpty()) magazineDAO.saveBatch(magazines, connection);
+        if (!references.isEmpty()) referenceDAO.saveBatch(references, connection);
+        if (!theses.isEmpty()) thesisDAO.saveBatch(theses, connection);
+    }
+
     private void setItemParameters(PreparedStatement stmt, LibraryItem item) throws SQLException {
         stmt.setString(1, item.getTitle());
         stmt.setString(2, item.getAuthor());
@@ -141,6 +295,7 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
             connection.setAutoCommit(false);
 
             preparedStatement = connection.prepareStatement(UPDATE_ITEM);
+            applyQueryTimeout(preparedStatement);
             setItemParameters(preparedStatement, item);
             preparedStatement.setInt(7, getDefaultUserId());
             preparedStatement.setInt(8, item.getId());
@@ -205,6 +360,41 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
         }
     }
 
+    // Returns the row as it was stored when it was deleted, read under the same row lock.
+    @Override
+    public Optional<LibraryItem> deleteAndFetch(int id) throws SQLException {
+        Connection connection = null;
+
+        try {
+            connection = getConnection();
+            connection.setAutoCommit(false);
+
+            LibraryItem item = null;
+            if (lockStatus(connection, id) != null) {
+                item = DBUtil.executeQueryAndMap(connection, FIND_BY_ID, this::mapResultSetToLibraryItem, id);
+                DBUtil.executeUpdate(connection, DELETE_ITEM, id);
+            }
+            commitTransaction(connection);
+
+            if (item != null) {
+                logger.info("Deleted item with ID: {}", id);
+            }
+            return Optional.ofNullable(item);
+
+        } catch (SQLException e) {
+            rollbackTransaction(connection);
+            logger.error("Error deleting library item: {}", e.getMessage());
+            throw e;
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    private LibraryItemStatus lockStatus(Connection connection, int id) throws SQLException {
+        return DBUtil.executeQueryAndMap(connection, LOCK_STATUS,
+                resultSet -> LibraryItemStatus.valueOf(resultSet.getString("status")), id);
+    }
+
     @Override
     public Optional<LibraryItem> findById(int id) throws SQLException {
         return Optional.ofNullable(DBUtil.executeQueryAndMap(FIND_BY_ID, this::mapResultSetToLibraryItem, id));
@@ -225,11 +415,179 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
         return findItems(FIND_BY_STATUS, status.name());
     }
 
+    @Override
+    public List<LibraryItem> findWhere(String condition, Object... params) throws SQLException {
+        return DBUtil.executeQueryAndMapList(SELECT_HYDRATED_ITEM + "WHERE " + condition + " ORDER BY li.id",
+                this::mapResultSetToLibraryItem, params);
+    }
+
+    // Resolves ids in bounded IN chunks with one query per detail table; the map follows the caller's order.
+    @Override
+    public Map<Integer, LibraryItem> findByIds(Collection<Integer> ids) throws SQLException {
+        Map<Integer, LibraryItem> itemsById = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return itemsById;
+        }
+
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Integer, LibraryItem> found = new HashMap<>(distinctIds.size() * 2);
+        int chunkSize = DBUtil.getInListChunkSize();
+        Connection connection = null;
+
+        try {
+            connection = getConnection();
+            for (int start = 0; start < distinctIds.size(); start += chunkSize) {
+                List<Integer> chunk = distinctIds.subList(start, Math.min(start + chunkSize, distinctIds.size()));
+                for (LibraryItemDetailDAO<? extends LibraryItem> detailDAO : List.of(bookDAO, magazineDAO, referenceDAO, thesisDAO)) {
+                    for (LibraryItem item : detailDAO.findByIds(chunk, connection)) {
+                        found.put(item.getId(), item);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error finding {} library items by id: {}", distinctIds.size(), e.getMessage());
+            throw e;
+        } finally {
+            closeConnection(connection);
+        }
+
+        for (Integer id : ids) {
+            LibraryItem item = found.get(id);
+            if (item != null) {
+                itemsById.put(id, item);
+            }
+        }
+        return itemsById;
+    }
+
     @Override
     public List<LibraryItem> findAll() throws SQLException {
         return findItems(FIND_ALL, null);
     }
 
+    @Override
+    public Stream<LibraryItem> streamAll() throws SQLException {
+        return DBUtil.executeQueryAndStream(FIND_ALL, this::mapResultSetToLibraryItem);
+    }
+
+    @Override
+    public Stream<LibraryItem> streamAllByPublishDateDesc() throws SQLException {
+        return DBUtil.executeQueryAndStream(FIND_ALL_BY_PUBLISH_DATE_DESC, this::mapResultSetToLibraryItem);
+    }
+
+    @Override
+    public void forEachItem(Consumer<? super LibraryItem> action) throws SQLException {
+        DBUtil.executeQueryAndForEach(FIND_ALL, this::mapResultSetToLibraryItem, action);
+    }
+
+    @Override
+    public Page<LibraryItem> findPage(int afterId, int limit, LibraryItemFilter filter) throws SQLException {
+        return findPage(FIND_PAGE, afterId, limit, filter, this::mapResultSetToLibraryItem, LibraryItem::getId);
+    }
+
+    @Override
+    public Page<LibraryItemSummary> findSummaryPage(int afterId, int limit, LibraryItemFilter filter) throws SQLException {
+        return findPage(FIND_SUMMARY_PAGE, afterId, limit, filter, this::mapResultSetToSummary, LibraryItemSummary::getId);
+    }
+
+    private <T> Page<T> findPage(String pageQuery, int afterId, int limit, LibraryItemFilter filter,
+                                 DBUtil.ResultSetMapper<T> mapper, ToIntFunction<T> idOf) throws SQLException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+
+        StringBuilder query = new StringBuilder(pageQuery);
+        List<Object> params = new ArrayList<>();
+        params.add(afterId);
+
+        if (filter.getTitle() != null) {
+            query.append(" AND li.title LIKE ?");
+            params.add("%" + SqlPredicate.escapeLike(filter.getTitle()) + "%");
+        }
+        if (filter.getAuthor() != null) {
+            query.append(" AND li.author LIKE ?");
+            params.add("%" + SqlPredicate.escapeLike(filter.getAuthor()) + "%");
+        }
+        if (filter.getStatus() != null) {
+            query.append(" AND li.status = ?");
+            params.add(filter.getStatus().name());
+        }
+
+        query.append(" ORDER BY li.id LIMIT ?");
+        params.add(limit + 1);
+
+        List<T> items = DBUtil.executeQueryAndMapList(query.toString(), mapper, params.toArray());
+
+        if (items.size() > limit) {
+            items = items.subList(0, limit);
+            return new Page<>(items, idOf.applyAsInt(items.get(limit - 1)));
+        }
+        return new Page<>(items, null);
+    }
+
+    @Override
+    public List<LibraryItemSummary> findSummariesByStatus(LibraryItemStatus status) throws SQLException {
+        return DBUtil.executeQueryAndMapList(FIND_SUMMARIES_BY_STATUS, this::mapResultSetToSummary, status.name());
+    }
+
+    @Override
+    public List<LibraryItemSummary> findSummariesWhere(String condition, Object... params) throws SQLException {
+        return DBUtil.executeQueryAndMapList(SELECT_SUMMARY + "WHERE " + condition + " ORDER BY li.id",
+                this::mapResultSetToSummary, params);
+    }
+
+    @Override
+    public List<LibraryItemSummary> findSummariesByIds(Collection<Integer> ids) throws SQLException {
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Integer, LibraryItemSummary> found = new HashMap<>(distinctIds.size() * 2);
+        if (distinctIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int chunkSize = DBUtil.getInListChunkSize();
+        Connection connection = null;
+
+        try {
+            connection = getConnection();
+            for (int start = 0; start < distinctIds.size(); start += chunkSize) {
+                List<Integer> chunk = distinctIds.subList(start, Math.min(start + chunkSize, distinctIds.size()));
+                for (LibraryItemSummary summary : DBUtil.executeQueryAndMapList(connection,
+                        SELECT_SUMMARY + DBUtil.inClause("li.id", chunk.size()), this::mapResultSetToSummary, chunk.toArray())) {
+                    found.put(summary.getId(), summary);
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error finding {} item summaries by id: {}", distinctIds.size(), e.getMessage());
+            throw e;
+        } finally {
+            closeConnection(connection);
+        }
+
+        List<LibraryItemSummary> summaries = new ArrayList<>(distinctIds.size());
+        for (Integer id : distinctIds) {
+            LibraryItemSummary summary = found.get(id);
+            if (summary != null) {
+                summaries.add(summary);
+            }
+        }
+        return summaries;
+    }
+
+    @Override
+    public void forEachSummaryByPublishDateDesc(Consumer<? super LibraryItemSummary> action) throws SQLException {
+        DBUtil.executeQueryAndForEach(FIND_SUMMARIES_BY_PUBLISH_DATE_DESC, this::mapResultSetToSummary, action);
+    }
+
+    private LibraryItemSummary mapResultSetToSummary(ResultSet resultSet) throws SQLException {
+        Date returnDate = resultSet.getDate("return_date");
+        return new LibraryItemSummary(
+                resultSet.getInt("id"),
+                resultSet.getString("title"),
+                resultSet.getString("author"),
+                LibraryItemType.valueOf(resultSet.getString("type")),
+                LibraryItemStatus.valueOf(resultSet.getString("status")),
+                returnDate != null ? returnDate.toLocalDate() : null);
+    }
+
     private List<LibraryItem> findItems(String query, String param) throws SQLException {
         if (param != null) {
             return DBUtil.executeQueryAndMapList(query, this::mapResultSetToLibraryItem, param);
@@ -239,18 +597,17 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
     }
 
     private LibraryItem mapResultSetToLibraryItem(ResultSet resultSet) throws SQLException {
-        int id = resultSet.getInt("id");
         LibraryItemType type = LibraryItemType.valueOf(resultSet.getString("type"));
 
         switch (type) {
             case BOOK:
-                return bookDAO.findById(id);
+                return bookDAO.extractFromResultSet(resultSet);
             case MAGAZINE:
-                return magazineDAO.findById(id);
+                return magazineDAO.extractFromResultSet(resultSet);
             case REFERENCE:
-                return referenceDAO.findById(id);
+                return referenceDAO.extractFromResultSet(resultSet);
             case THESIS:
-                return thesisDAO.findById(id);
+                return thesisDAO.extractFromResultSet(resultSet);
             default:
                 throw new SQLException("Unknown library item type: " + type);
         }
@@ -334,6 +691,245 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
         }
     }
 
+    @Override
+    public LoanOutcome borrowItemAndFetch(int itemId, int userId, LocalDate returnDate) throws SQLException {
+        LoanOutcome outcome = updateAndFetch(itemId, "borrowing", LibraryItemStatus.EXIST, BORROW_ITEM,
+                Date.valueOf(returnDate), getDefaultUserId(), itemId);
+        if (outcome.isSuccess()) {
+            logger.info("Item {} borrowed by user {}", itemId, getDefaultUserId());
+        }
+        return outcome;
+    }
+
+    @Override
+    public LoanOutcome returnItemAndFetch(int itemId) throws SQLException {
+        LoanOutcome outcome = updateAndFetch(itemId, "returning", LibraryItemStatus.BORROWED, RETURN_ITEM, itemId);
+        if (outcome.isSuccess()) {
+            logger.info("Item {} returned", itemId);
+        }
+        return outcome;
+    }
+
+    @Override
+    public LoanOutcome updateStatusAndFetch(int itemId, LibraryItemStatus status) throws SQLException {
+        LoanOutcome outcome = updateAndFetch(itemId, "updating status of", null, UPDATE_STATUS, status.name(), itemId);
+        if (outcome.isSuccess()) {
+            logger.info("Updated status of item {} from {} to {}", itemId, outcome.getPreviousStatus(), status);
+        } else if (!outcome.isItemFound()) {
+            logger.warn("Cannot update status of item {}: not found", itemId);
+        }
+        return outcome;
+    }
+
+    // guardStatus is the status the query's WHERE clause requires. A guarded update that hit a row proves the
+    // previous status, and one that missed left the row as re-read, so only unguarded updates lock first.
+    private LoanOutcome updateAndFetch(int itemId, String operation, LibraryItemStatus guardStatus,
+                                       String query, Object... params) throws SQLException {
+        Connection connection = null;
+
+        try {
+            connection = getConnection();
+            connection.setAutoCommit(false);
+
+            LibraryItemStatus lockedStatus = guardStatus == null ? lockStatus(connection, itemId) : null;
+            int affectedRows = DBUtil.executeUpdate(connection, query, params);
+            LibraryItem item = DBUtil.executeQueryAndMap(connection, FIND_BY_ID, this::mapResultSetToLibraryItem, itemId);
+            commitTransaction(connection);
+
+            LibraryItemStatus previousStatus;
+            if (guardStatus == null) {
+                previousStatus = lockedStatus;
+            } else if (affectedRows > 0) {
+                previousStatus = guardStatus;
+            } else {
+                previousStatus = item != null ? item.getStatus() : null;
+            }
+            return new LoanOutcome(affectedRows > 0, item, previousStatus);
+
+        } catch (SQLException e) {
+            rollbackTransaction(connection);
+            logger.error("Error {} item {}: {}", operation, itemId, e.getMessage());
+            throw e;
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    // Group commit: the whole list runs in one transaction. Consecutive operations of the same type
+    // go out as one JDBC batch; a failed batch is retried row by row so only the failing request fails.
+    // Every item is locked up front in ascending id order, so concurrent groups queue on each other instead
+    // of deadlocking; a deadlock reported anyway (SQLState 40001) rolls back and reruns the whole group.
+    @Override
+    public List<LoanOutcome> applyLoanOperations(List<LoanOperation> operations) throws SQLException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return applyLoanOperationsOnce(operations);
+            } catch (SQLException e) {
+                if (!isDeadlock(e) || attempt >= MAX_GROUP_ATTEMPTS) {
+                    throw e;
+                }
+                logger.warn("Loan group of {} deadlocked, retrying (attempt {} of {})",
+                        operations.size(), attempt + 1, MAX_GROUP_ATTEMPTS);
+            }
+        }
+    }
+
+    private List<LoanOutcome> applyLoanOperationsOnce(List<LoanOperation> operations) throws SQLException {
+        int size = operations.size();
+        int[] updateCounts = new int[size];
+        String[] errors = new String[size];
+        LoanOutcome[] outcomes = new LoanOutcome[size];
+        Connection connection = null;
+
+        try {
+            connection = getConnection();
+            connection.setAutoCommit(false);
+
+            Map<Integer, LibraryItemStatus> statuses = lockStatuses(connection, operations);
+
+            // A run never holds the same item twice, so each row's count and snapshot belong to that row alone.
+            int start = 0;
+            while (start < size) {
+                Set<Integer> runIds = new HashSet<>();
+                runIds.add(operations.get(start).getItemId());
+                int end = start + 1;
+                while (end < size && operations.get(end).getType() == operations.get(start).getType()
+                        && runIds.add(operations.get(end).getItemId())) {
+                    end++;
+                }
+                applyLoanRun(connection, operations, start, end, updateCounts, errors);
+                recordRunOutcomes(connection, operations, start, end, updateCounts, errors, statuses, outcomes);
+                start = end;
+            }
+            commitTransaction(connection);
+
+            logger.info("Group-committed {} loan operations", size);
+            return List.of(outcomes);
+
+        } catch (SQLException e) {
+            rollbackTransaction(connection);
+            logger.error("Error applying {} loan operations: {}", size, e.getMessage());
+            throw e;
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    private Map<Integer, LibraryItemStatus> lockStatuses(Connection connection, List<LoanOperation> operations) throws SQLException {
+        List<Integer> ids = operations.stream()
+                .map(LoanOperation::getItemId)
+                .distinct()
+                .sorted()
+                .toList();
+        Map<Integer, LibraryItemStatus> statuses = new HashMap<>(ids.size() * 2);
+        int chunkSize = DBUtil.getInListChunkSize();
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            List<Integer> chunk = ids.subList(start, Math.min(start + chunkSize, ids.size()));
+            List<Map.Entry<Integer, LibraryItemStatus>> locked = DBUtil.executeQueryAndMapList(connection,
+                    "SELECT id, status FROM library_item " + DBUtil.inClause("id", chunk.size()) + " ORDER BY id FOR UPDATE",
+                    resultSet -> Map.entry(resultSet.getInt("id"), LibraryItemStatus.valueOf(resultSet.getString("status"))),
+                    chunk.toArray());
+            locked.forEach(entry -> statuses.put(entry.getKey(), entry.getValue()));
+        }
+        return statuses;
+    }
+
+    // Each outcome carries the row as it stood right after its own run, not the state at the end of the group.
+    private void recordRunOutcomes(Connection connection, List<LoanOperation> operations, int from, int to,
+                                   int[] updateCounts, String[] errors, Map<Integer, LibraryItemStatus> statuses,
+                                   LoanOutcome[] outcomes) throws SQLException {
+        Object[] ids = new Object[to - from];
+        for (int i = from; i < to; i++) {
+            ids[i - from] = operations.get(i).getItemId();
+        }
+        Map<Integer, LibraryItem> items = new HashMap<>(ids.length * 2);
+        for (LibraryItem item : DBUtil.executeQueryAndMapList(connection,
+                SELECT_HYDRATED_ITEM + DBUtil.inClause("li.id", ids.length), this::mapResultSetToLibraryItem, ids)) {
+            items.put(item.getId(), item);
+        }
+
+        for (int i = from; i < to; i++) {
+            LoanOperation operation = operations.get(i);
+            LibraryItem item = items.get(operation.getItemId());
+            LibraryItemStatus previousStatus = statuses.get(operation.getItemId());
+            if (errors[i] != null) {
+                outcomes[i] = LoanOutcome.failed(item, errors[i]);
+            } else {
+                // The rows are locked and no other row in the run touches this item, so the driver's
+                // SUCCESS_NO_INFO is resolved from the status the row held before this run.
+                boolean applied = updateCounts[i] > 0
+                        || (updateCounts[i] == Statement.SUCCESS_NO_INFO && preconditionHolds(operation, previousStatus));
+                outcomes[i] = new LoanOutcome(applied, item, previousStatus);
+            }
+            if (item == null) {
+                statuses.remove(operation.getItemId());
+            } else {
+                statuses.put(operation.getItemId(), item.getStatus());
+            }
+        }
+    }
+
+    private static boolean preconditionHolds(LoanOperation operation, LibraryItemStatus currentStatus) {
+        return switch (operation.getType()) {
+            case BORROW -> currentStatus == LibraryItemStatus.EXIST;
+            case RETURN -> currentStatus == LibraryItemStatus.BORROWED;
+            default -> currentStatus != null;
+        };
+    }
+
+    private static boolean isDeadlock(SQLException e) {
+        return DEADLOCK_SQL_STATE.equals(e.getSQLState());
+    }
+
+    private void applyLoanRun(Connection connection, List<LoanOperation> operations, int from, int to,
+                              int[] updateCounts, String[] errors) throws SQLException {
+        String query = switch (operations.get(from).getType()) {
+            case BORROW -> BORROW_ITEM;
+            case RETURN -> RETURN_ITEM;
+            case UPDATE_STATUS -> UPDATE_STATUS;
+            default -> throw new SQLException("Unsupported loan operation: " + operations.get(from).getType());
+        };
+
+        List<Object[]> paramRows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            LoanOperation operation = operations.get(i);
+            paramRows.add(switch (operation.getType()) {
+                case BORROW -> new Object[]{Date.valueOf(operation.getReturnDate()), getDefaultUserId(), operation.getItemId()};
+                case UPDATE_STATUS -> new Object[]{operation.getStatus().name(), operation.getItemId()};
+                default -> new Object[]{operation.getItemId()};
+            });
+        }
+
+        Savepoint batchSavepoint = connection.setSavepoint();
+        try {
+            int[] counts = DBUtil.executeBatch(connection, query, paramRows);
+            System.arraycopy(counts, 0, updateCounts, from, counts.length);
+            connection.releaseSavepoint(batchSavepoint);
+            return;
+        } catch (BatchUpdateException e) {
+            // A deadlock has already rolled back the whole transaction; only a rerun of the group helps.
+            if (isDeadlock(e)) {
+                throw e;
+            }
+            connection.rollback(batchSavepoint);
+            logger.warn("Loan batch of {} failed, retrying row by row: {}", paramRows.size(), e.getMessage());
+        }
+
+        for (int i = from; i < to; i++) {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                updateCounts[i] = DBUtil.executeUpdate(connection, query, paramRows.get(i - from));
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                if (isDeadlock(e)) {
+                    throw e;
+                }
+                connection.rollback(savepoint);
+                errors[i] = e.getMessage();
+            }
+        }
+    }
+
     @Override
     public int countByStatus(LibraryItemStatus status) throws SQLException {
         return executeCountQuery(COUNT_BY_STATUS, status.name());
@@ -349,6 +945,37 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
         return executeCountQuery(COUNT_OVERDUE, null);
     }
 
+    @Override
+    public LibraryStatistics snapshot() throws SQLException {
+        Map<LibraryItemStatus, Long> statusCounts = new EnumMap<>(LibraryItemStatus.class);
+        Map<LibraryItemType, Long> typeCounts = new EnumMap<>(LibraryItemType.class);
+        long overdueCount = 0;
+
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = getConnection();
+            preparedStatement = connection.prepareStatement(STATISTICS_SNAPSHOT);
+            applyQueryTimeout(preparedStatement);
+            resultSet = preparedStatement.executeQuery();
+
+            while (resultSet.next()) {
+                typeCounts.put(LibraryItemType.valueOf(resultSet.getString("type")), resultSet.getLong("total_count"));
+                statusCounts.merge(LibraryItemStatus.EXIST, resultSet.getLong("exist_count"), Long::sum);
+                statusCounts.merge(LibraryItemStatus.BORROWED, resultSet.getLong("borrowed_count"), Long::sum);
+                statusCounts.merge(LibraryItemStatus.BANNED, resultSet.getLong("banned_count"), Long::sum);
+                overdueCount += resultSet.getLong("overdue_count");
+            }
+
+            return new LibraryStatistics(statusCounts, typeCounts, overdueCount);
+
+        } finally {
+            DBUtil.closeResources(resultSet, preparedStatement, connection);
+        }
+    }
+
     private int executeCountQuery(String query, String param) throws SQLException {
         Connection connection = null;
         PreparedStatement preparedStatement = null;
@@ -357,6 +984,7 @@ public class LibraryItemDAOImpl extends BaseDAO implements LibraryItemDAO {
         try {
             connection = getConnection();
             preparedStatement = connection.prepareStatement(query);
+            applyQueryTimeout(preparedStatement);
 
             if (param != null) {
                 preparedStatement.setString(1, param);
@@ -10,6 +10,9 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class MagazineDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Magazine> {
     private static final String INSERT_MAGAZINE = """
@@ -18,17 +21,17 @@ public class MagazineDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Mag
     """;
 
     private static final String UPDATE_MAGAZINE = """
-        UPDATE magazine 
+        UPDATE magazine
         SET issue_number = ?, publisher = ?, category = ?
         WHERE item_id = ?
     """;
 
-    private static final String FIND_MAGAZINE_BY_ID = """
+    private static final String SELECT_MAGAZINE = """
         SELECT li.*, m.issue_number, m.publisher, m.category
         FROM library_item li
         JOIN magazine m ON li.id = m.item_id
-        WHERE li.id = ?
     """;
+    private static final String FIND_MAGAZINE_BY_ID = SELECT_MAGAZINE + "WHERE li.id = ?";
 
     @Override
     public void save(int itemId, Magazine magazine, Connection connection) throws SQLException {
@@ -36,6 +39,14 @@ public class MagazineDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Mag
                 itemId, magazine.getIssueNumber(), magazine.getPublisher(), magazine.getCategory());
     }
 
+    @Override
+    public void saveBatch(Map<Integer, Magazine> magazinesById, Connection connection) throws SQLException {
+        List<Object[]> rows = new ArrayList<>(magazinesById.size());
+        magazinesById.forEach((itemId, magazine) ->
+                rows.add(new Object[]{itemId, magazine.getIssueNumber(), magazine.getPublisher(), magazine.getCategory()}));
+        DBUtil.executeBatch(connection, INSERT_MAGAZINE, rows);
+    }
+
     @Override
     public void update(Magazine magazine, Connection connection) throws SQLException {
         DBUtil.executeUpdate(connection, UPDATE_MAGAZINE,
@@ -44,10 +55,17 @@ public class MagazineDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Mag
 
     @Override
     public Magazine findById(int id) throws SQLException {
-        return DBUtil.executeQueryAndMap(FIND_MAGAZINE_BY_ID, this::extractMagazineFromResultSet, id);
+        return DBUtil.executeQueryAndMap(FIND_MAGAZINE_BY_ID, this::extractFromResultSet, id);
     }
 
-    private Magazine extractMagazineFromResultSet(ResultSet resultSet) throws SQLException {
+    @Override
+    public List<Magazine> findByIds(List<Integer> ids, Connection connection) throws SQLException {
+        return DBUtil.executeQueryAndMapList(connection, SELECT_MAGAZINE + DBUtil.inClause("li.id", ids.size()),
+                this::extractFromResultSet, ids.toArray());
+    }
+
+    @Override
+    public Magazine extractFromResultSet(ResultSet resultSet) throws SQLException {
         int id = resultSet.getInt("id");
         String title = resultSet.getString("title");
         String author = resultSet.getString("author");
@@ -10,6 +10,9 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class ReferenceDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Reference> {
     private static final String INSERT_REFERENCE = """
@@ -18,17 +21,17 @@ public class ReferenceDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Re
     """;
 
     private static final String UPDATE_REFERENCE = """
-        UPDATE reference 
+        UPDATE reference
         SET reference_type = ?, edition = ?, subject = ?
         WHERE item_id = ?
     """;
 
-    private static final String FIND_REFERENCE_BY_ID = """
+    private static final String SELECT_REFERENCE = """
         SELECT li.*, r.reference_type, r.edition, r.subject
         FROM library_item li
         JOIN reference r ON li.id = r.item_id
-        WHERE li.id = ?
     """;
+    private static final String FIND_REFERENCE_BY_ID = SELECT_REFERENCE + "WHERE li.id = ?";
 
     @Override
     public void save(int itemId, Reference reference, Connection connection) throws SQLException {
@@ -37,6 +40,14 @@ public class ReferenceDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Re
         logger.debug("Saved reference with item_id: {}", itemId);
     }
 
+    @Override
+    public void saveBatch(Map<Integer, Reference> referencesById, Connection connection) throws SQLException {
+        List<Object[]> rows = new ArrayList<>(referencesById.size());
+        referencesById.forEach((itemId, reference) ->
+                rows.add(new Object[]{itemId, reference.getReferenceType(), reference.getEdition(), reference.getSubject()}));
+        DBUtil.executeBatch(connection, INSERT_REFERENCE, rows);
+    }
+
     @Override
     public void update(Reference reference, Connection connection) throws SQLException {
         DBUtil.executeUpdate(connection, UPDATE_REFERENCE,
@@ -46,10 +57,17 @@ public class ReferenceDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Re
 
     @Override
     public Reference findById(int id) throws SQLException {
-        return DBUtil.executeQueryAndMap(FIND_REFERENCE_BY_ID, this::extractReferenceFromResultSet, id);
+        return DBUtil.executeQueryAndMap(FIND_REFERENCE_BY_ID, this::extractFromResultSet, id);
     }
 
-    private Reference extractReferenceFromResultSet(ResultSet resultSet) throws SQLException {
+    @Override
+    public List<Reference> findByIds(List<Integer> ids, Connection connection) throws SQLException {
+        return DBUtil.executeQueryAndMapList(connection, SELECT_REFERENCE + DBUtil.inClause("li.id", ids.size()),
+                this::extractFromResultSet, ids.toArray());
+    }
+
+    @Override
+    public Reference extractFromResultSet(ResultSet resultSet) throws SQLException {
         int id = resultSet.getInt("id");
         String title = resultSet.getString("title");
         String author = resultSet.getString("author");
@@ -0,0 +1,333 @@
+package library.database.dao.impl;
+
+import library.database.dao.BatchSaveException;
+import library.database.dao.LibraryItemDAO;
+import library.models.LibraryItem;
+import library.models.LibraryItemFilter;
+import library.models.LibraryItemSummary;
+import library.models.LibraryStatistics;
+import library.models.LoanOperation;
+import library.models.LoanOutcome;
+import library.models.Page;
+import library.models.enums.LibraryItemStatus;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Concurrent identical reads share one in-flight query. Writes detach the flights they may affect,
+// so a caller that arrives after a write always starts a fresh query.
+public class SingleFlightLibraryItemDAO implements LibraryItemDAO {
+    private final LibraryItemDAO delegate;
+    private final Map<Integer, CompletableFuture<Optional<LibraryItem>>> itemFlights = new ConcurrentHashMap<>();
+    private final Map<List<Object>, CompletableFuture<List<LibraryItem>>> queryFlights = new ConcurrentHashMap<>();
+    private final Map<List<Object>, CompletableFuture<List<LibraryItemSummary>>> summaryFlights = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlightLibraryItemDAO(LibraryItemDAO delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<LibraryItem> findById(int id) throws SQLException {
+        return coalesce(itemFlights, id, () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<LibraryItem> findByTitle(String title) throws SQLException {
+        return new ArrayList<>(coalesce(queryFlights, Arrays.asList("title", title), () -> delegate.findByTitle(title)));
+    }
+
+    @Override
+    public List<LibraryItem> findByAuthor(String author) throws SQLException {
+        return new ArrayList<>(coalesce(queryFlights, Arrays.asList("author", author), () -> delegate.findByAuthor(author)));
+    }
+
+    @Override
+    public List<LibraryItem> findByStatus(LibraryItemStatus status) throws SQLException {
+        return new ArrayList<>(coalesce(queryFlights, Arrays.asList("status", status), () -> delegate.findByStatus(status)));
+    }
+
+    @Override
+    public List<LibraryItem> findWhere(String condition, Object... params) throws SQLException {
+        List<Object> key = Arrays.asList("where", condition, Arrays.asList(params));
+        return new ArrayList<>(coalesce(queryFlights, key, () -> delegate.findWhere(condition, params)));
+    }
+
+    private <K, V> V coalesce(Map<K, CompletableFuture<V>> flights, K key, SqlCall<V> call) throws SQLException {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            V value = call.execute();
+            flight.complete(value);
+            return value;
+        } catch (SQLException | RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) throws SQLException {
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                SQLException sqlException = (SQLException) cause;
+                throw new SQLException(sqlException.getMessage(), sqlException.getSQLState(),
+                        sqlException.getErrorCode(), sqlException);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SQLException("Coalesced query failed", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a coalesced query", e);
+        }
+    }
+
+    private void detach(int id) {
+        itemFlights.remove(id);
+        queryFlights.clear();
+        summaryFlights.clear();
+    }
+
+    private void detachAll(Collection<Integer> ids) {
+        ids.forEach(itemFlights::remove);
+        queryFlights.clear();
+        summaryFlights.clear();
+    }
+
+    @Override
+    public int save(LibraryItem item) throws SQLException {
+        int generatedId = delegate.save(item);
+        detach(generatedId);
+        return generatedId;
+    }
+
+    @Override
+    public List<Integer> saveAll(Collection<LibraryItem> items) throws SQLException {
+        try {
+            List<Integer> ids = delegate.saveAll(items);
+            detachAll(ids);
+            return ids;
+        } catch (BatchSaveException e) {
+            detachAll(e.getCommittedIds());
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Integer> saveAll(Collection<LibraryItem> items, int chunkSize, int commitInterval) throws SQLException {
+        try {
+            List<Integer> ids = delegate.saveAll(items, chunkSize, commitInterval);
+            detachAll(ids);
+            return ids;
+        } catch (BatchSaveException e) {
+            detachAll(e.getCommittedIds());
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean update(LibraryItem item) throws SQLException {
+        try {
+            return delegate.update(item);
+        } finally {
+            detach(item.getId());
+        }
+    }
+
+    @Override
+    public boolean delete(int id) throws SQLException {
+        try {
+            return delegate.delete(id);
+        } finally {
+            detach(id);
+        }
+    }
+
+    @Override
+    public Optional<LibraryItem> deleteAndFetch(int id) throws SQLException {
+        try {
+            return delegate.deleteAndFetch(id);
+        } finally {
+            detach(id);
+        }
+    }
+
+    @Override
+    public boolean borrowItem(int itemId, int userId, LocalDate returnDate) throws SQLException {
+        try {
+            return delegate.borrowItem(itemId, userId, returnDate);
+        } finally {
+            detach(itemId);
+        }
+    }
+
+    @Override
+    public boolean returnItem(int itemId) throws SQLException {
+        try {
+            return delegate.returnItem(itemId);
+        } finally {
+            detach(itemId);
+        }
+    }
+
+    @Override
+    public boolean updateStatus(int itemId, LibraryItemStatus status) throws SQLException {
+        try {
+            return delegate.updateStatus(itemId, status);
+        } finally {
+            detach(itemId);
+        }
+    }
+
+    @Override
+    public LoanOutcome borrowItemAndFetch(int itemId, int userId, LocalDate returnDate) throws SQLException {
+        try {
+            return delegate.borrowItemAndFetch(itemId, userId, returnDate);
+        } finally {
+            detach(itemId);
+        }
+    }
+
+    @Override
+    public LoanOutcome returnItemAndFetch(int itemId) throws SQLException {
+        try {
+            return delegate.returnItemAndFetch(itemId);
+        } finally {
+            detach(itemId);
+        }
+    }
+
+    @Override
+    public LoanOutcome updateStatusAndFetch(int itemId, LibraryItemStatus status) throws SQLException {
+        try {
+            return delegate.updateStatusAndFetch(itemId, status);
+        } finally {
+            detach(itemId);
+        }
+    }
+
+    @Override
+    public List<LoanOutcome> applyLoanOperations(List<LoanOperation> operations) throws SQLException {
+        try {
+            return delegate.applyLoanOperations(operations);
+        } finally {
+            detachAll(operations.stream().map(LoanOperation::getItemId).toList());
+        }
+    }
+
+    @Override
+    public Map<Integer, LibraryItem> findByIds(Collection<Integer> ids) throws SQLException {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    public List<LibraryItem> findAll() throws SQLException {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Page<LibraryItem> findPage(int afterId, int limit, LibraryItemFilter filter) throws SQLException {
+        return delegate.findPage(afterId, limit, filter);
+    }
+
+    @Override
+    public List<LibraryItemSummary> findSummariesByStatus(LibraryItemStatus status) throws SQLException {
+        return new ArrayList<>(coalesce(summaryFlights, Arrays.asList("status", status),
+                () -> delegate.findSummariesByStatus(status)));
+    }
+
+    @Override
+    public List<LibraryItemSummary> findSummariesWhere(String condition, Object... params) throws SQLException {
+        List<Object> key = Arrays.asList("where", condition, Arrays.asList(params));
+        return new ArrayList<>(coalesce(summaryFlights, key, () -> delegate.findSummariesWhere(condition, params)));
+    }
+
+    @Override
+    public List<LibraryItemSummary> findSummariesByIds(Collection<Integer> ids) throws SQLException {
+        return delegate.findSummariesByIds(ids);
+    }
+
+    @Override
+    public Page<LibraryItemSummary> findSummaryPage(int afterId, int limit, LibraryItemFilter filter) throws SQLException {
+        return delegate.findSummaryPage(afterId, limit, filter);
+    }
+
+    @Override
+    public void forEachSummaryByPublishDateDesc(Consumer<? super LibraryItemSummary> action) throws SQLException {
+        delegate.forEachSummaryByPublishDateDesc(action);
+    }
+
+    @Override
+    public Stream<LibraryItem> streamAll() throws SQLException {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Stream<LibraryItem> streamAllByPublishDateDesc() throws SQLException {
+        return delegate.streamAllByPublishDateDesc();
+    }
+
+    @Override
+    public void forEachItem(Consumer<? super LibraryItem> action) throws SQLException {
+        delegate.forEachItem(action);
+    }
+
+    @Override
+    public int countByStatus(LibraryItemStatus status) throws SQLException {
+        return delegate.countByStatus(status);
+    }
+
+    @Override
+    public int countAll() throws SQLException {
+        return delegate.countAll();
+    }
+
+    @Override
+    public int countOverdueItems() throws SQLException {
+        return delegate.countOverdueItems();
+    }
+
+    @Override
+    public LibraryStatistics snapshot() throws SQLException {
+        return delegate.snapshot();
+    }
+
+    public long getExecutedCount() { return executed.sum(); }
+    public long getCoalescedCount() { return coalesced.sum(); }
+
+    @Override
+    public String toString() {
+        return String.format("Read coalescing - executed: %d, coalesced: %d, in flight: %d",
+                getExecutedCount(), getCoalescedCount(), itemFlights.size() + queryFlights.size() + summaryFlights.size());
+    }
+
+    private interface SqlCall<V> {
+        V execute() throws SQLException;
+    }
+}
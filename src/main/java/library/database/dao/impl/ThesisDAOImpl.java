@@ -10,6 +10,9 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class ThesisDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Thesis> {
     private static final String INSERT_THESIS = """
@@ -18,17 +21,17 @@ public class ThesisDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Thesi
     """;
 
     private static final String UPDATE_THESIS = """
-        UPDATE thesis 
+        UPDATE thesis
         SET university = ?, department = ?, advisor = ?
         WHERE item_id = ?
     """;
 
-    private static final String FIND_THESIS_BY_ID = """
+    private static final String SELECT_THESIS = """
         SELECT li.*, t.university, t.department, t.advisor
         FROM library_item li
         JOIN thesis t ON li.id = t.item_id
-        WHERE li.id = ?
     """;
+    private static final String FIND_THESIS_BY_ID = SELECT_THESIS + "WHERE li.id = ?";
 
     @Override
     public void save(int itemId, Thesis thesis, Connection connection) throws SQLException {
@@ -37,6 +40,14 @@ public class ThesisDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Thesi
         logger.debug("Saved thesis with item_id: {}", itemId);
     }
 
+    @Override
+    public void saveBatch(Map<Integer, Thesis> thesesById, Connection connection) throws SQLException {
+        List<Object[]> rows = new ArrayList<>(thesesById.size());
+        thesesById.forEach((itemId, thesis) ->
+                rows.add(new Object[]{itemId, thesis.getUniversity(), thesis.getDepartment(), thesis.getAdvisor()}));
+        DBUtil.executeBatch(connection, INSERT_THESIS, rows);
+    }
+
     @Override
     public void update(Thesis thesis, Connection connection) throws SQLException {
         DBUtil.executeUpdate(connection, UPDATE_THESIS,
@@ -46,10 +57,17 @@ public class ThesisDAOImpl extends BaseDAO implements LibraryItemDetailDAO<Thesi
 
     @Override
     public Thesis findById(int id) throws SQLException {
-        return DBUtil.executeQueryAndMap(FIND_THESIS_BY_ID, this::extractThesisFromResultSet, id);
+        return DBUtil.executeQueryAndMap(FIND_THESIS_BY_ID, this::extractFromResultSet, id);
     }
 
-    private Thesis extractThesisFromResultSet(ResultSet resultSet) throws SQLException {
+    @Override
+    public List<Thesis> findByIds(List<Integer> ids, Connection connection) throws SQLException {
+        return DBUtil.executeQueryAndMapList(connection, SELECT_THESIS + DBUtil.inClause("li.id", ids.size()),
+                this::extractFromResultSet, ids.toArray());
+    }
+
+    @Override
+    public Thesis extractFromResultSet(ResultSet resultSet) throws SQLException {
         int id = resultSet.getInt("id");
         String title = resultSet.getString("title");
         String author = resultSet.getString("author");
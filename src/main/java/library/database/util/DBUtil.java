@@ -5,15 +5,96 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class DBUtil {
     private static final Logger logger = LoggerFactory.getLogger(DBUtil.class);
+    private static final LongAdder connectionCheckouts = new LongAdder();
+    private static final LongAdder statementExecutions = new LongAdder();
 
+    // Absolute System.nanoTime() deadline of the request being served by the current thread.
+    private static final ThreadLocal<Long> queryDeadline = new ThreadLocal<>();
 
     public static Connection getConnection() throws SQLException {
+        connectionCheckouts.increment();
         return DatabaseConnection.getConnection();
     }
 
+    public static int getPoolMaxTotal() {
+        return DatabaseConnection.getIntProperty("db.pool.maxTotal", 20);
+    }
+
+    public static int getInListChunkSize() {
+        return DatabaseConnection.getIntProperty("db.inList.chunkSize", 500);
+    }
+
+    public static int getStreamFetchSize() {
+        return DatabaseConnection.getIntProperty("db.stream.fetchSize", 500);
+    }
+
+    public static int getBatchChunkSize() {
+        return DatabaseConnection.getIntProperty("db.batch.chunkSize", 1000);
+    }
+
+    public static int getBatchCommitInterval() {
+        return DatabaseConnection.getIntProperty("db.batch.commitInterval", 10000);
+    }
+
+    public static int getQueryTimeoutSeconds() {
+        return DatabaseConnection.getIntProperty("db.queryTimeoutSeconds", 30);
+    }
+
+    // Full-table scans such as the startup index rebuild legitimately outlast the per-query timeout; 0 means none.
+    public static int getStreamQueryTimeoutSeconds() {
+        return DatabaseConnection.getIntProperty("db.stream.queryTimeoutSeconds", 0);
+    }
+
+    public static void setQueryDeadline(long deadlineNanos) {
+        queryDeadline.set(deadlineNanos);
+    }
+
+    public static void clearQueryDeadline() {
+        queryDeadline.remove();
+    }
+
+    public static void applyQueryTimeout(Statement stmt) throws SQLException {
+        applyQueryTimeout(stmt, getQueryTimeoutSeconds());
+    }
+
+    // Caps the statement timeout by whatever is left of the current request's budget.
+    private static void applyQueryTimeout(Statement stmt, int timeoutSeconds) throws SQLException {
+        Long deadline = queryDeadline.get();
+
+        if (deadline != null) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new SQLTimeoutException("Request deadline exceeded before the statement was executed");
+            }
+            int remainingSeconds = (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + 999_999_999L));
+            timeoutSeconds = timeoutSeconds > 0 ? Math.min(timeoutSeconds, remainingSeconds) : remainingSeconds;
+        }
+
+        if (timeoutSeconds > 0) {
+            stmt.setQueryTimeout(timeoutSeconds);
+        }
+    }
+
+    public static long getConnectionCheckouts() {
+        return connectionCheckouts.sum();
+    }
+
+    public static long getStatementExecutions() {
+        return statementExecutions.sum();
+    }
+
     public static void closeResources(ResultSet rs, Statement stmt, Connection conn) {
         try {
             if (rs != null) rs.close();
@@ -51,11 +132,46 @@ public class DBUtil {
 
     public static int executeUpdate(Connection conn, String sql, Object... params) throws SQLException {
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            applyQueryTimeout(stmt);
             setParameters(stmt, params);
+            statementExecutions.increment();
             return stmt.executeUpdate();
         }
     }
 
+    public static int[] executeBatch(Connection conn, String sql, List<Object[]> paramRows) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            applyQueryTimeout(stmt);
+            for (Object[] params : paramRows) {
+                setParameters(stmt, params);
+                stmt.addBatch();
+            }
+            statementExecutions.increment();
+            return stmt.executeBatch();
+        }
+    }
+
+    // Same as executeBatch, but returns the generated keys in row order.
+    public static List<Integer> executeBatchReturningKeys(Connection conn, String sql, List<Object[]> paramRows) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            applyQueryTimeout(stmt);
+            for (Object[] params : paramRows) {
+                setParameters(stmt, params);
+                stmt.addBatch();
+            }
+            statementExecutions.increment();
+            stmt.executeBatch();
+
+            List<Integer> keys = new ArrayList<>(paramRows.size());
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                while (generatedKeys.next()) {
+                    keys.add(generatedKeys.getInt(1));
+                }
+            }
+            return keys;
+        }
+    }
+
     public static void setParameters(PreparedStatement stmt, Object... params) throws SQLException {
         for (int i = 0; i < params.length; i++) {
             if (params[i] == null) {
@@ -78,7 +194,14 @@ public class DBUtil {
 
     public static ResultSet executeQuery(Connection conn, String sql, Object... params) throws SQLException {
         PreparedStatement stmt = conn.prepareStatement(sql);
+        try {
+            applyQueryTimeout(stmt);
+        } catch (SQLException e) {
+            stmt.close();
+            throw e;
+        }
         setParameters(stmt, params);
+        statementExecutions.increment();
         return stmt.executeQuery();
     }
 
@@ -90,7 +213,9 @@ public class DBUtil {
         try {
             conn = getConnection();
             stmt = conn.prepareStatement(sql);
+            applyQueryTimeout(stmt);
             setParameters(stmt, params);
+            statementExecutions.increment();
             rs = stmt.executeQuery();
 
             if (rs.next()) {
@@ -103,16 +228,29 @@ public class DBUtil {
         }
     }
 
-    public static <T> java.util.List<T> executeQueryAndMapList(String sql, ResultSetMapper<T> mapper, Object... params) throws SQLException {
+    public static <T> T executeQueryAndMap(Connection conn, String sql, ResultSetMapper<T> mapper, Object... params) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            applyQueryTimeout(stmt);
+            setParameters(stmt, params);
+            statementExecutions.increment();
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapper.map(rs) : null;
+            }
+        }
+    }
+
+    public static <T> List<T> executeQueryAndMapList(String sql, ResultSetMapper<T> mapper, Object... params) throws SQLException {
         Connection conn = null;
         PreparedStatement stmt = null;
         ResultSet rs = null;
-        java.util.List<T> results = new java.util.ArrayList<>();
+        List<T> results = new ArrayList<>();
 
         try {
             conn = getConnection();
             stmt = conn.prepareStatement(sql);
+            applyQueryTimeout(stmt);
             setParameters(stmt, params);
+            statementExecutions.increment();
             rs = stmt.executeQuery();
 
             while (rs.next()) {
@@ -125,6 +263,99 @@ public class DBUtil {
         }
     }
 
+    public static <T> List<T> executeQueryAndMapList(Connection conn, String sql, ResultSetMapper<T> mapper, Object... params) throws SQLException {
+        List<T> results = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            applyQueryTimeout(stmt);
+            setParameters(stmt, params);
+            statementExecutions.increment();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(mapper.map(rs));
+                }
+            }
+        }
+        return results;
+    }
+
+    public static String inClause(String column, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("IN list must not be empty");
+        }
+        StringBuilder clause = new StringBuilder("WHERE ").append(column).append(" IN (?");
+        for (int i = 1; i < count; i++) {
+            clause.append(", ?");
+        }
+        return clause.append(')').toString();
+    }
+
+    public static <T> Stream<T> executeQueryAndStream(String sql, ResultSetMapper<T> mapper, Object... params) throws SQLException {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = getConnection();
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            applyQueryTimeout(stmt, getStreamQueryTimeoutSeconds());
+            stmt.setFetchSize(getStreamFetchSize());
+            setParameters(stmt, params);
+            statementExecutions.increment();
+            rs = stmt.executeQuery();
+        } catch (SQLException e) {
+            closeResources(rs, stmt, conn);
+            throw e;
+        }
+
+        final Connection connection = conn;
+        final PreparedStatement statement = stmt;
+        final ResultSet resultSet = rs;
+
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!resultSet.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(resultSet));
+                    return true;
+                } catch (SQLException e) {
+                    logger.error("Error reading streamed row: {}", e.getMessage());
+                    throw new RuntimeException("Failed to read row from database", e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> closeResources(resultSet, statement, connection));
+    }
+
+    public static <T> void executeQueryAndForEach(String sql, ResultSetMapper<T> mapper, Consumer<? super T> action,
+                                                  Object... params) throws SQLException {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = getConnection();
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            applyQueryTimeout(stmt, getStreamQueryTimeoutSeconds());
+            stmt.setFetchSize(getStreamFetchSize());
+            setParameters(stmt, params);
+            statementExecutions.increment();
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                action.accept(mapper.map(rs));
+            }
+
+        } finally {
+            closeResources(rs, stmt, conn);
+        }
+    }
+
     public interface ResultSetMapper<T> {
         T map(ResultSet rs) throws SQLException;
     }
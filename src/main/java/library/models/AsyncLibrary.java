@@ -0,0 +1,208 @@
+package library.models;
+
+import library.config.LibrarySettings;
+import library.database.util.DBUtil;
+import library.models.enums.LibraryItemStatus;
+import library.models.enums.SearchAlgorithm;
+import library.models.exceptions.LibraryDataAccessException;
+import library.models.exceptions.LibraryException;
+import library.models.exceptions.LibraryTimeoutException;
+import library.models.exceptions.LibraryUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class AsyncLibrary {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncLibrary.class);
+
+    private final Library library;
+    private final ThreadPoolExecutor dbExecutor;
+
+    public AsyncLibrary(Library library) {
+        this(library, DBUtil.getPoolMaxTotal(), LibrarySettings.getAsyncQueueCapacity());
+    }
+
+    // One thread per pooled connection: more threads would only queue inside DBCP while holding no connection.
+    public AsyncLibrary(Library library, int threads, int queueCapacity) {
+        this.library = library;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dbExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "library-db-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        dbExecutor.allowCoreThreadTimeOut(true);
+        logger.info("Async library executor started - threads: {}, queue capacity: {}", threads, queueCapacity);
+    }
+
+    public CompletableFuture<Optional<LibraryItem>> getLibraryItemById(int id) {
+        return supply(() -> Optional.ofNullable(library.getLibraryItemById(id)));
+    }
+
+    public CompletableFuture<Page<LibraryItem>> getLibraryItemsPage(int afterId, int limit, LibraryItemFilter filter) {
+        return supply(() -> library.getLibraryItemsPage(afterId, limit, filter));
+    }
+
+    public CompletableFuture<List<LibraryItem>> search(SearchAlgorithm algorithm, String keyword) {
+        return supply(() -> library.search(algorithm, keyword));
+    }
+
+    public CompletableFuture<List<LibraryItem>> getBorrowedItems() {
+        return supply(library::getBorrowedItems);
+    }
+
+    public CompletableFuture<List<LibraryItemSummary>> getBorrowedItemSummaries() {
+        return supply(library::getBorrowedItemSummaries);
+    }
+
+    public CompletableFuture<LibraryStatistics> getStatistics() {
+        return supply(library::getStatistics);
+    }
+
+    public CompletableFuture<Void> addLibraryItem(LibraryItem libraryItem) {
+        return run(() -> library.addLibraryItem(libraryItem));
+    }
+
+    public CompletableFuture<Boolean> removeLibraryItem(LibraryItem libraryItem) {
+        return supply(() -> library.removeLibraryItem(libraryItem));
+    }
+
+    public CompletableFuture<LoanOutcome> borrowItem(int itemId, LocalDate expectedReturnDate) {
+        return supply(() -> library.borrowItemAndGet(itemId, expectedReturnDate));
+    }
+
+    public CompletableFuture<LoanOutcome> returnItem(int itemId) {
+        return supply(() -> library.returnItemAndGet(itemId));
+    }
+
+    public CompletableFuture<LoanOutcome> updateItemStatus(int itemId, LibraryItemStatus newStatus) {
+        return supply(() -> library.updateItemStatusAndGet(itemId, newStatus));
+    }
+
+    public CompletableFuture<Void> reconcileStatistics() {
+        return run(library::reconcileStatistics);
+    }
+
+    public CompletableFuture<Map<Integer, LibraryItem>> getLibraryItemsByIds(Collection<Integer> ids) {
+        return supply(() -> library.getLibraryItemsByIds(ids));
+    }
+
+    public static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<T> results = new ArrayList<>(futures.size());
+                    futures.forEach(future -> results.add(future.join()));
+                    return results;
+                });
+    }
+
+    public static <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future, Duration timeout) {
+        return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(throwable -> {
+                    throw translate(throwable);
+                });
+    }
+
+    // Blocks for the result and rethrows failures as the typed library exceptions.
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw translate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LibraryUnavailableException("Interrupted while waiting for the library", e);
+        }
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return call.get();
+                } catch (RuntimeException e) {
+                    throw translate(e);
+                }
+            }, dbExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new LibraryUnavailableException("Library executor is saturated", e));
+        }
+    }
+
+    private CompletableFuture<Void> run(Runnable call) {
+        return supply(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private static LibraryException translate(Throwable throwable) {
+        Throwable failure = throwable;
+        while (failure instanceof CompletionException || failure instanceof ExecutionException) {
+            if (failure.getCause() == null) {
+                break;
+            }
+            failure = failure.getCause();
+        }
+        if (failure instanceof LibraryException) {
+            return (LibraryException) failure;
+        }
+        if (failure instanceof TimeoutException) {
+            return new LibraryTimeoutException("Library call timed out", failure);
+        }
+
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTimeoutException) {
+                return new LibraryTimeoutException(failure.getMessage(), cause);
+            }
+            // DBCP reports an exhausted pool as a plain SQLException caused by NoSuchElementException.
+            if (cause instanceof SQLTransientConnectionException || cause instanceof SQLNonTransientConnectionException
+                    || (cause instanceof SQLException && cause.getCause() instanceof NoSuchElementException)) {
+                return new LibraryUnavailableException(failure.getMessage(), cause);
+            }
+            if (cause instanceof SQLException) {
+                return new LibraryDataAccessException(failure.getMessage(), cause);
+            }
+        }
+        return new LibraryException(failure.getMessage(), failure);
+    }
+
+    public int getQueuedTaskCount() { return dbExecutor.getQueue().size(); }
+    public int getActiveTaskCount() { return dbExecutor.getActiveCount(); }
+
+    public void shutdown() {
+        dbExecutor.shutdown();
+        try {
+            if (!dbExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                dbExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dbExecutor.shutdownNow();
+        }
+    }
+}
@@ -1,24 +1,54 @@
 package library.models;
 
-import library.database.dao.LibraryItemDAO;
+import library.config.LibrarySettings;
+import library.database.dao.BatchSaveException;
+import library.database.dao.impl.CachingLibraryItemDAO;
 import library.database.dao.impl.LibraryItemDAOImpl;
+import library.database.dao.impl.SingleFlightLibraryItemDAO;
+import library.models.enums.EventType;
 import library.models.enums.LibraryItemStatus;
+import library.models.enums.RequestType;
+import library.models.enums.SearchAlgorithm;
+import library.print.observers.EventManager;
+import library.search.index.TrigramIndex;
+import library.search.strategies.SearchStrategy;
+import library.search.strategies.SearchStrategyFactory;
+import library.search.strategies.SqlPredicate;
+import library.statistics.LibraryStatisticsCounters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class Library {
     private static Library library = null;
-    private final LibraryItemDAO libraryItemDAO;
+    private final CachingLibraryItemDAO libraryItemDAO;
+    private final SingleFlightLibraryItemDAO singleFlightDAO;
+    private final TrigramIndex searchIndex;
+    private final LibraryStatisticsCounters statisticsCounters;
+    private final EventManager eventBus;
+    private volatile boolean searchIndexReady;
     private static final Logger logger = LoggerFactory.getLogger(Library.class);
 
     private Library() {
-        this.libraryItemDAO = new LibraryItemDAOImpl();
+        this.singleFlightDAO = new SingleFlightLibraryItemDAO(new LibraryItemDAOImpl());
+        this.libraryItemDAO = new CachingLibraryItemDAO(singleFlightDAO);
+        this.searchIndex = new TrigramIndex();
+        this.eventBus = EventManager.getEventBus();
         logger.info("Library instance created with JDBC database connection");
+        rebuildSearchIndex();
+        this.statisticsCounters = new LibraryStatisticsCounters(libraryItemDAO);
+        statisticsCounters.start(LibrarySettings.getStatisticsReconcileIntervalSeconds());
     }
 
     public static synchronized Library getInstance() {
@@ -37,9 +67,78 @@ public class Library {
         }
     }
 
+    public Stream<LibraryItem> streamLibraryItems() {
+        try {
+            return libraryItemDAO.streamAll();
+        } catch (SQLException e) {
+            logger.error("Error streaming library items: {}", e.getMessage());
+            throw new RuntimeException("Failed to stream library items from database", e);
+        }
+    }
+
+    public void forEachLibraryItem(Consumer<? super LibraryItem> action) {
+        try {
+            libraryItemDAO.forEachItem(action);
+        } catch (SQLException e) {
+            logger.error("Error iterating library items: {}", e.getMessage());
+            throw new RuntimeException("Failed to iterate library items from database", e);
+        }
+    }
+
+    public void forEachLibraryItemNewestFirst(Consumer<? super LibraryItem> action) {
+        try (Stream<LibraryItem> items = libraryItemDAO.streamAllByPublishDateDesc()) {
+            items.forEach(action);
+        } catch (SQLException e) {
+            logger.error("Error iterating sorted library items: {}", e.getMessage());
+            throw new RuntimeException("Failed to iterate sorted library items from database", e);
+        }
+    }
+
+    public void forEachLibraryItemSummaryNewestFirst(Consumer<? super LibraryItemSummary> action) {
+        try {
+            libraryItemDAO.forEachSummaryByPublishDateDesc(action);
+        } catch (SQLException e) {
+            logger.error("Error iterating sorted library item summaries: {}", e.getMessage());
+            throw new RuntimeException("Failed to iterate sorted library items from database", e);
+        }
+    }
+
+    public void rebuildSearchIndex() {
+        searchIndexReady = false;
+        searchIndex.clear();
+        try {
+            libraryItemDAO.forEachItem(item -> searchIndex.put(item.getId(), item.getTitle(), item.getAuthor()));
+            searchIndexReady = true;
+            logger.info("Search index built with {} items", searchIndex.size());
+        } catch (SQLException e) {
+            logger.error("Error building search index, falling back to catalog scans: {}", e.getMessage());
+        }
+    }
+
+    public Page<LibraryItem> getLibraryItemsPage(int afterId, int limit, LibraryItemFilter filter) {
+        try {
+            return libraryItemDAO.findPage(afterId, limit, filter);
+        } catch (SQLException e) {
+            logger.error("Error getting library items page after ID {}: {}", afterId, e.getMessage());
+            throw new RuntimeException("Failed to get library items page from database", e);
+        }
+    }
+
+    public Page<LibraryItemSummary> getLibraryItemSummariesPage(int afterId, int limit, LibraryItemFilter filter) {
+        try {
+            return libraryItemDAO.findSummaryPage(afterId, limit, filter);
+        } catch (SQLException e) {
+            logger.error("Error getting library item summaries page after ID {}: {}", afterId, e.getMessage());
+            throw new RuntimeException("Failed to get library items page from database", e);
+        }
+    }
+
     public void addLibraryItem(LibraryItem libraryItem) {
         try {
             int generatedId = libraryItemDAO.save(libraryItem);
+            searchIndex.put(generatedId, libraryItem.getTitle(), libraryItem.getAuthor());
+            statisticsCounters.itemAdded(libraryItem.getType(), libraryItem.getStatus());
+            publishEvent(EventType.added(libraryItem.getType()), generatedId, libraryItem, null, libraryItem.getStatus());
             logger.info("Added new {} with ID: {}",
                     libraryItem.getClass().getSimpleName(), generatedId);
         } catch (SQLException e) {
@@ -48,20 +147,69 @@ public class Library {
         }
     }
 
-    public void removeLibraryItem(LibraryItem libraryItem) {
+    public List<Integer> addLibraryItems(Collection<LibraryItem> libraryItems) {
         try {
-            boolean success = libraryItemDAO.delete(libraryItem.getId());
-            if (success) {
-                logger.info("Removed library item with ID: {}", libraryItem.getId());
-            } else {
+            List<Integer> generatedIds = libraryItemDAO.saveAll(libraryItems);
+            registerAddedItems(libraryItems, generatedIds);
+            logger.info("Added {} library items in bulk", generatedIds.size());
+            return generatedIds;
+        } catch (BatchSaveException e) {
+            // Chunks committed before the failure are in the database, so they still need indexing and counting.
+            registerAddedItems(libraryItems, e.getCommittedIds());
+            logger.error("Error adding library items in bulk after {} were committed: {}",
+                    e.getCommittedIds().size(), e.getMessage());
+            throw new RuntimeException("Failed to add library items to database", e);
+        } catch (SQLException e) {
+            logger.error("Error adding library items in bulk: {}", e.getMessage());
+            throw new RuntimeException("Failed to add library items to database", e);
+        }
+    }
+
+    private void registerAddedItems(Collection<LibraryItem> libraryItems, List<Integer> generatedIds) {
+        Iterator<LibraryItem> items = libraryItems.iterator();
+        for (int generatedId : generatedIds) {
+            LibraryItem libraryItem = items.next();
+            searchIndex.put(generatedId, libraryItem.getTitle(), libraryItem.getAuthor());
+            statisticsCounters.itemAdded(libraryItem.getType(), libraryItem.getStatus());
+            publishEvent(EventType.added(libraryItem.getType()), generatedId, libraryItem, null, libraryItem.getStatus());
+        }
+    }
+
+    // Returns false when the row was already gone, e.g. deleted by a concurrent request.
+    public boolean removeLibraryItem(LibraryItem libraryItem) {
+        try {
+            Optional<LibraryItem> removed = libraryItemDAO.deleteAndFetch(libraryItem.getId());
+            if (removed.isEmpty()) {
                 logger.warn("Failed to remove library item with ID: {}", libraryItem.getId());
+                return false;
             }
+            LibraryItem removedItem = removed.get();
+            searchIndex.remove(libraryItem.getId());
+            statisticsCounters.itemRemoved(removedItem.getType(), removedItem.getStatus());
+            publishEvent(EventType.removed(removedItem.getType()), libraryItem.getId(), removedItem,
+                    removedItem.getStatus(), null);
+            logger.info("Removed library item with ID: {}", libraryItem.getId());
+            return true;
         } catch (SQLException e) {
             logger.error("Error removing library item: {}", e.getMessage());
             throw new RuntimeException("Failed to remove library item from database", e);
         }
     }
 
+    public boolean updateLibraryItem(LibraryItem libraryItem) {
+        try {
+            boolean success = libraryItemDAO.update(libraryItem);
+            if (success) {
+                searchIndex.put(libraryItem.getId(), libraryItem.getTitle(), libraryItem.getAuthor());
+                logger.info("Updated library item with ID: {}", libraryItem.getId());
+            }
+            return success;
+        } catch (SQLException e) {
+            logger.error("Error updating library item: {}", e.getMessage());
+            throw new RuntimeException("Failed to update library item in database", e);
+        }
+    }
+
     public LibraryItem getLibraryItemById(int id) {
         try {
             Optional<LibraryItem> item = libraryItemDAO.findById(id);
@@ -73,17 +221,35 @@ public class Library {
     }
 
     public boolean borrowItem(int itemId, LocalDate expectedReturnDate) {
+        return borrowItemAndGet(itemId, expectedReturnDate).isSuccess();
+    }
+
+    public boolean returnItem(int itemId) {
+        return returnItemAndGet(itemId).isSuccess();
+    }
+
+    public LoanOutcome borrowItemAndGet(int itemId, LocalDate expectedReturnDate) {
         try {
-            return libraryItemDAO.borrowItem(itemId, 0, expectedReturnDate);
+            LoanOutcome outcome = libraryItemDAO.borrowItemAndFetch(itemId, 0, expectedReturnDate);
+            if (outcome.isSuccess()) {
+                statisticsCounters.statusChanged(LibraryItemStatus.EXIST, LibraryItemStatus.BORROWED);
+                publishLoanEvent(RequestType.BORROW, itemId, outcome.getItem(), LibraryItemStatus.EXIST, LibraryItemStatus.BORROWED);
+            }
+            return outcome;
         } catch (SQLException e) {
             logger.error("Error borrowing item {}: {}", itemId, e.getMessage());
             throw new RuntimeException("Failed to borrow item", e);
         }
     }
 
-    public boolean returnItem(int itemId) {
+    public LoanOutcome returnItemAndGet(int itemId) {
         try {
-            return libraryItemDAO.returnItem(itemId);
+            LoanOutcome outcome = libraryItemDAO.returnItemAndFetch(itemId);
+            if (outcome.isSuccess()) {
+                statisticsCounters.statusChanged(LibraryItemStatus.BORROWED, LibraryItemStatus.EXIST);
+                publishLoanEvent(RequestType.RETURN, itemId, outcome.getItem(), LibraryItemStatus.BORROWED, LibraryItemStatus.EXIST);
+            }
+            return outcome;
         } catch (SQLException e) {
             logger.error("Error returning item {}: {}", itemId, e.getMessage());
             throw new RuntimeException("Failed to return item", e);
@@ -92,18 +258,70 @@ public class Library {
 
     public List<LibraryItem> search(String keyword) {
         try {
-            List<LibraryItem> byTitle = libraryItemDAO.findByTitle(keyword);
-            List<LibraryItem> byAuthor = libraryItemDAO.findByAuthor(keyword);
+            Map<Integer, LibraryItem> merged = new LinkedHashMap<>();
+            libraryItemDAO.findByAuthor(keyword).forEach(item -> merged.put(item.getId(), item));
+            libraryItemDAO.findByTitle(keyword).forEach(item -> merged.putIfAbsent(item.getId(), item));
+            return new ArrayList<>(merged.values());
+        } catch (SQLException e) {
+            logger.error("Error searching for '{}': {}", keyword, e.getMessage());
+            throw new RuntimeException("Failed to search library items", e);
+        }
+    }
 
-            byTitle.forEach(item -> {
-                if (!byAuthor.stream().anyMatch(i -> i.getId() == item.getId())) {
-                    byAuthor.add(item);
-                }
-            });
+    public List<LibraryItem> search(SearchAlgorithm algorithm, String keyword) {
+        if (!searchIndexReady) {
+            return searchInDatabase(algorithm, keyword);
+        }
 
-            return byAuthor;
+        try {
+            return new ArrayList<>(libraryItemDAO.findByIds(searchIndex.search(algorithm, keyword)).values());
         } catch (SQLException e) {
-            logger.error("Error searching for '{}': {}", keyword, e.getMessage());
+            logger.error("Error loading search results for '{}': {}", keyword, e.getMessage());
+            throw new RuntimeException("Failed to search library items", e);
+        }
+    }
+
+    public Map<Integer, LibraryItem> getLibraryItemsByIds(Collection<Integer> ids) {
+        try {
+            return libraryItemDAO.findByIds(ids);
+        } catch (SQLException e) {
+            logger.error("Error getting {} library items by ID: {}", ids.size(), e.getMessage());
+            throw new RuntimeException("Failed to get library items from database", e);
+        }
+    }
+
+    public List<LibraryItemSummary> searchSummaries(SearchAlgorithm algorithm, String keyword) {
+        try {
+            if (searchIndexReady) {
+                return libraryItemDAO.findSummariesByIds(searchIndex.search(algorithm, keyword));
+            }
+
+            Optional<SqlPredicate> predicate = SearchStrategyFactory.createPushdownPredicate(algorithm, keyword);
+            if (predicate.isPresent()) {
+                return libraryItemDAO.findSummariesWhere(predicate.get().getCondition(), predicate.get().getParameters());
+            }
+        } catch (SQLException e) {
+            logger.error("Error searching summaries for '{}' with {}: {}", keyword, algorithm, e.getMessage());
+            throw new RuntimeException("Failed to search library items", e);
+        }
+
+        return searchInDatabase(algorithm, keyword).stream().map(LibraryItemSummary::of).toList();
+    }
+
+    private List<LibraryItem> searchInDatabase(SearchAlgorithm algorithm, String keyword) {
+        Optional<SqlPredicate> predicate = SearchStrategyFactory.createPushdownPredicate(algorithm, keyword);
+
+        try {
+            if (predicate.isPresent()) {
+                return libraryItemDAO.findWhere(predicate.get().getCondition(), predicate.get().getParameters());
+            }
+
+            SearchStrategy strategy = SearchStrategyFactory.createStrategy(algorithm);
+            try (Stream<LibraryItem> items = libraryItemDAO.streamAll()) {
+                return items.filter(item -> strategy.matches(item, keyword)).toList();
+            }
+        } catch (SQLException e) {
+            logger.error("Error searching for '{}' with {}: {}", keyword, algorithm, e.getMessage());
             throw new RuntimeException("Failed to search library items", e);
         }
     }
@@ -117,6 +335,15 @@ public class Library {
         }
     }
 
+    public List<LibraryItemSummary> getBorrowedItemSummaries() {
+        try {
+            return libraryItemDAO.findSummariesByStatus(LibraryItemStatus.BORROWED);
+        } catch (SQLException e) {
+            logger.error("Error getting borrowed item summaries: {}", e.getMessage());
+            throw new RuntimeException("Failed to get borrowed items", e);
+        }
+    }
+
     public List<LibraryItem> sortLibraryItems() {
         List<LibraryItem> items = getLibraryItems();
         items.sort((a, b) -> b.getPublishDate().compareTo(a.getPublishDate()));
@@ -124,57 +351,107 @@ public class Library {
     }
 
     public boolean updateItemStatus(int itemId, LibraryItemStatus newStatus) {
+        return updateItemStatusAndGet(itemId, newStatus).isSuccess();
+    }
+
+    public LibraryStatistics getStatistics() {
+        return statisticsCounters.toStatistics();
+    }
+
+    public void reconcileStatistics() {
         try {
-            return libraryItemDAO.updateStatus(itemId, newStatus);
+            statisticsCounters.reconcile();
         } catch (SQLException e) {
-            logger.error("Error updating item status: {}", e.getMessage());
-            throw new RuntimeException("Failed to update item status", e);
+            logger.error("Error reconciling library statistics: {}", e.getMessage());
+            throw new RuntimeException("Failed to reconcile library statistics", e);
         }
     }
 
-    public int getTotalItems() {
+    public LoanOutcome updateItemStatusAndGet(int itemId, LibraryItemStatus newStatus) {
         try {
-            return libraryItemDAO.countAll();
+            LoanOutcome outcome = libraryItemDAO.updateStatusAndFetch(itemId, newStatus);
+            if (outcome.isSuccess() && outcome.getPreviousStatus() != null) {
+                statisticsCounters.statusChanged(outcome.getPreviousStatus(), newStatus);
+            }
+            if (outcome.isSuccess()) {
+                publishLoanEvent(RequestType.UPDATE_STATUS, itemId, outcome.getItem(), outcome.getPreviousStatus(), newStatus);
+            }
+            return outcome;
         } catch (SQLException e) {
-            logger.error("Error counting total items: {}", e.getMessage());
-            throw new RuntimeException("Failed to get total items count", e);
+            logger.error("Error updating item status: {}", e.getMessage());
+            throw new RuntimeException("Failed to update item status", e);
         }
     }
 
-    public int getAvailableItems() {
+    public List<LoanOutcome> applyLoanOperations(List<LoanOperation> operations) {
         try {
-            return libraryItemDAO.countByStatus(LibraryItemStatus.EXIST);
+            List<LoanOutcome> outcomes = libraryItemDAO.applyLoanOperations(operations);
+            for (int i = 0; i < operations.size(); i++) {
+                LoanOperation operation = operations.get(i);
+                LoanOutcome outcome = outcomes.get(i);
+                if (!outcome.isSuccess()) {
+                    continue;
+                }
+                if (outcome.getPreviousStatus() != null) {
+                    statisticsCounters.statusChanged(outcome.getPreviousStatus(), operation.getTargetStatus());
+                }
+                publishLoanEvent(operation.getType(), operation.getItemId(), outcome.getItem(),
+                        outcome.getPreviousStatus(), operation.getTargetStatus());
+            }
+            return outcomes;
         } catch (SQLException e) {
-            logger.error("Error counting available items: {}", e.getMessage());
-            throw new RuntimeException("Failed to get available items count", e);
+            logger.error("Error applying {} loan operations: {}", operations.size(), e.getMessage());
+            throw new RuntimeException("Failed to apply loan operations", e);
         }
     }
 
-    public int getBorrowedItemsCount() {
-        try {
-            return libraryItemDAO.countByStatus(LibraryItemStatus.BORROWED);
-        } catch (SQLException e) {
-            logger.error("Error counting borrowed items: {}", e.getMessage());
-            throw new RuntimeException("Failed to get borrowed items count", e);
+    private void publishLoanEvent(RequestType requestType, int itemId, LibraryItem item,
+                                  LibraryItemStatus previousStatus, LibraryItemStatus newStatus) {
+        if (item == null) {
+            return;
         }
+        EventType eventType = switch (requestType) {
+            case BORROW -> EventType.borrowed(item.getType());
+            case RETURN -> EventType.returned(item.getType());
+            default -> EventType.STATUS_CHANGED;
+        };
+        publishEvent(eventType, itemId, item, previousStatus, newStatus);
     }
 
-    public int getBannedItemsCount() {
-        try {
-            return libraryItemDAO.countByStatus(LibraryItemStatus.BANNED);
-        } catch (SQLException e) {
-            logger.error("Error counting banned items: {}", e.getMessage());
-            throw new RuntimeException("Failed to get banned items count", e);
+    private void publishEvent(EventType eventType, int itemId, LibraryItem item,
+                              LibraryItemStatus previousStatus, LibraryItemStatus newStatus) {
+        if (eventBus.hasListeners(eventType)) {
+            eventBus.publish(new LibraryEvent(eventType, itemId, item.getType(), item.getTitle(), previousStatus, newStatus));
         }
     }
 
+    public int getTotalItems() {
+        return (int) statisticsCounters.getTotalItems();
+    }
+
+    public int getAvailableItems() {
+        return (int) statisticsCounters.getCount(LibraryItemStatus.EXIST);
+    }
+
+    public int getBorrowedItemsCount() {
+        return (int) statisticsCounters.getCount(LibraryItemStatus.BORROWED);
+    }
+
+    public int getBannedItemsCount() {
+        return (int) statisticsCounters.getCount(LibraryItemStatus.BANNED);
+    }
+
     public int getOverdueItemsCount() {
-        try {
-            return libraryItemDAO.countOverdueItems();
-        } catch (SQLException e) {
-            logger.error("Error counting overdue items: {}", e.getMessage());
-            throw new RuntimeException("Failed to get overdue items count", e);
-        }
+        return (int) statisticsCounters.getOverdueCount();
+    }
+
+    public String getCacheStatistics() {
+        return libraryItemDAO + "; " + singleFlightDAO;
+    }
+
+    public void shutdown() {
+        statisticsCounters.stop();
+        logger.info("{}", getCacheStatistics());
     }
 
     public void writeToFile() {
@@ -0,0 +1,67 @@
+package library.models;
+
+import library.models.enums.EventType;
+import library.models.enums.LibraryItemStatus;
+import library.models.enums.LibraryItemType;
+
+import java.time.Instant;
+
+public class LibraryEvent {
+    private final EventType eventType;
+    private final int itemId;
+    private final LibraryItemType itemType;
+    private final String title;
+    private final LibraryItemStatus previousStatus;
+    private final LibraryItemStatus newStatus;
+    private final long timestampMillis;
+    private String message;
+
+    // previousStatus is null for events that have no transition, such as a newly added item;
+    // newStatus is null for a removed item.
+    public LibraryEvent(EventType eventType, int itemId, LibraryItemType itemType, String title,
+                        LibraryItemStatus previousStatus, LibraryItemStatus newStatus) {
+        this.eventType = eventType;
+        this.itemId = itemId;
+        this.itemType = itemType;
+        this.title = title;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.timestampMillis = System.currentTimeMillis();
+    }
+
+    public EventType getEventType() { return eventType; }
+    public int getItemId() { return itemId; }
+    public LibraryItemType getItemType() { return itemType; }
+    public String getTitle() { return title; }
+    public LibraryItemStatus getPreviousStatus() { return previousStatus; }
+    public LibraryItemStatus getNewStatus() { return newStatus; }
+    public long getTimestampMillis() { return timestampMillis; }
+    public Instant getTimestamp() { return Instant.ofEpochMilli(timestampMillis); }
+
+    public boolean isTransition() {
+        return previousStatus != null && newStatus != null && previousStatus != newStatus;
+    }
+
+    // Built on first use only; the race between listeners at worst formats the same string twice.
+    public String getMessage() {
+        String formatted = message;
+        if (formatted == null) {
+            String change;
+            if (newStatus == null) {
+                change = "removed (was " + previousStatus + ")";
+            } else if (previousStatus == null) {
+                change = "is " + newStatus;
+            } else {
+                change = previousStatus + " -> " + newStatus;
+            }
+            formatted = String.format("%s '%s' (ID: %d) %s", itemType, title, itemId, change);
+            message = formatted;
+        }
+        return formatted;
+    }
+
+    @Override
+    public String toString() {
+        return eventType + " | " + getMessage();
+    }
+}
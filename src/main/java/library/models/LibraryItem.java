@@ -6,9 +6,9 @@ import library.models.enums.LibraryItemType;
 import java.time.LocalDate;
 import java.util.concurrent.atomic.AtomicInteger;
 
-public abstract class LibraryItem {
+public abstract class LibraryItem implements Cloneable {
     private static final AtomicInteger numberOfItems = new AtomicInteger(0);
-    protected final int id;
+    protected int id;
     protected final String title;
     protected final String author;
     protected final LocalDate publishDate;
@@ -74,6 +74,21 @@ public abstract class LibraryItem {
         return id;
     }
 
+    // Replaces the provisional client-side id with the key the database generated on insert.
+    public void setId(int id) {
+        this.id = id;
+        numberOfItems.updateAndGet(current -> Math.max(current, id));
+    }
+
+    // Only id, status and return date are mutable, so a shallow copy is fully independent of the original.
+    public LibraryItem copy() {
+        try {
+            return (LibraryItem) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     public static void setCounter(int value) {
         numberOfItems.set(value);
     }
@@ -0,0 +1,26 @@
+package library.models;
+
+import library.models.enums.LibraryItemStatus;
+
+public class LibraryItemFilter {
+    private static final LibraryItemFilter ALL = new LibraryItemFilter(null, null, null);
+
+    private final String title;
+    private final String author;
+    private final LibraryItemStatus status;
+
+    public LibraryItemFilter(String title, String author, LibraryItemStatus status) {
+        this.title = title;
+        this.author = author;
+        this.status = status;
+    }
+
+    public static LibraryItemFilter all() { return ALL; }
+    public static LibraryItemFilter byTitle(String title) { return new LibraryItemFilter(title, null, null); }
+    public static LibraryItemFilter byAuthor(String author) { return new LibraryItemFilter(null, author, null); }
+    public static LibraryItemFilter byStatus(LibraryItemStatus status) { return new LibraryItemFilter(null, null, status); }
+
+    public String getTitle() { return title; }
+    public String getAuthor() { return author; }
+    public LibraryItemStatus getStatus() { return status; }
+}
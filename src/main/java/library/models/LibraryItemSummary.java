@@ -0,0 +1,47 @@
+package library.models;
+
+import library.models.enums.LibraryItemStatus;
+import library.models.enums.LibraryItemType;
+
+import java.time.LocalDate;
+
+public class LibraryItemSummary {
+    private final int id;
+    private final String title;
+    private final String author;
+    private final LibraryItemType type;
+    private final LibraryItemStatus status;
+    private final LocalDate returnDate;
+
+    public LibraryItemSummary(int id, String title, String author, LibraryItemType type,
+                              LibraryItemStatus status, LocalDate returnDate) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.type = type;
+        this.status = status;
+        this.returnDate = returnDate;
+    }
+
+    public static LibraryItemSummary of(LibraryItem item) {
+        return new LibraryItemSummary(item.getId(), item.getTitle(), item.getAuthor(), item.getType(),
+                item.getStatus(), item.getReturnDate());
+    }
+
+    public int getId() { return id; }
+    public String getTitle() { return title; }
+    public String getAuthor() { return author; }
+    public LibraryItemType getType() { return type; }
+    public LibraryItemStatus getStatus() { return status; }
+    public LocalDate getReturnDate() { return returnDate; }
+
+    public void display() {
+        System.out.println(this);
+    }
+
+    @Override
+    public String toString() {
+        String summary = String.format("%s: %s (ID: %d) by %s - %s", type, title, id, author, status);
+        return returnDate != null ? summary + ", due " + returnDate : summary;
+    }
+}
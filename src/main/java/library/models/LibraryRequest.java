@@ -2,6 +2,7 @@ package library.models;
 
 import library.models.enums.RequestType;
 import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
 
 public class LibraryRequest {
     private final RequestType requestType;
@@ -9,6 +10,9 @@ public class LibraryRequest {
     private final Integer itemId;
     private final LocalDate returnDate;
     private final String newStatus;
+    private volatile long enqueuedAtNanos;
+    private volatile long deadlineNanos;
+    private volatile boolean hasDeadline;
 
     // Constructor for CREATE
     public LibraryRequest(RequestType requestType, LibraryItem item) {
@@ -51,4 +55,28 @@ public class LibraryRequest {
     public Integer getItemId() { return itemId; }
     public LocalDate getReturnDate() { return returnDate; }
     public String getNewStatus() { return newStatus; }
+
+    public void markEnqueued(long timeoutMillis) {
+        enqueuedAtNanos = System.nanoTime();
+        if (timeoutMillis > 0) {
+            deadlineNanos = enqueuedAtNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            hasDeadline = true;
+        }
+    }
+
+    public long getEnqueuedAtNanos() { return enqueuedAtNanos; }
+    public long getDeadlineNanos() { return deadlineNanos; }
+    public boolean hasDeadline() { return hasDeadline; }
+
+    public long getRemainingNanos() {
+        return hasDeadline ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return getRemainingNanos() <= 0;
+    }
+
+    public long getAgeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enqueuedAtNanos);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package library.models;
+
+import library.models.enums.LibraryItemStatus;
+import library.models.enums.LibraryItemType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class LibraryStatistics {
+    private final Map<LibraryItemStatus, Long> statusCounts;
+    private final Map<LibraryItemType, Long> typeCounts;
+    private final long overdueCount;
+
+    public LibraryStatistics(Map<LibraryItemStatus, Long> statusCounts,
+                             Map<LibraryItemType, Long> typeCounts,
+                             long overdueCount) {
+        this.statusCounts = Collections.unmodifiableMap(new EnumMap<>(statusCounts));
+        this.typeCounts = Collections.unmodifiableMap(new EnumMap<>(typeCounts));
+        this.overdueCount = overdueCount;
+    }
+
+    public long getTotalItems() {
+        return typeCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getCount(LibraryItemStatus status) {
+        return statusCounts.getOrDefault(status, 0L);
+    }
+
+    public long getCount(LibraryItemType type) {
+        return typeCounts.getOrDefault(type, 0L);
+    }
+
+    public long getOverdueCount() { return overdueCount; }
+    public Map<LibraryItemStatus, Long> getStatusCounts() { return statusCounts; }
+    public Map<LibraryItemType, Long> getTypeCounts() { return typeCounts; }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package library.models;
+
+import library.models.enums.LibraryItemStatus;
+import library.models.enums.RequestType;
+
+import java.time.LocalDate;
+
+public class LoanOperation {
+    private final RequestType type;
+    private final int itemId;
+    private final LocalDate returnDate;
+    private final LibraryItemStatus status;
+
+    private LoanOperation(RequestType type, int itemId, LocalDate returnDate, LibraryItemStatus status) {
+        this.type = type;
+        this.itemId = itemId;
+        this.returnDate = returnDate;
+        this.status = status;
+    }
+
+    public static LoanOperation borrow(int itemId, LocalDate returnDate) {
+        return new LoanOperation(RequestType.BORROW, itemId, returnDate, null);
+    }
+
+    public static LoanOperation returnItem(int itemId) {
+        return new LoanOperation(RequestType.RETURN, itemId, null, null);
+    }
+
+    public static LoanOperation updateStatus(int itemId, LibraryItemStatus status) {
+        return new LoanOperation(RequestType.UPDATE_STATUS, itemId, null, status);
+    }
+
+    public RequestType getType() { return type; }
+    public int getItemId() { return itemId; }
+    public LocalDate getReturnDate() { return returnDate; }
+    public LibraryItemStatus getStatus() { return status; }
+
+    public LibraryItemStatus getTargetStatus() {
+        return switch (type) {
+            case BORROW -> LibraryItemStatus.BORROWED;
+            case RETURN -> LibraryItemStatus.EXIST;
+            default -> status;
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package library.models;
+
+import library.models.enums.LibraryItemStatus;
+
+public class LoanOutcome {
+    private final boolean success;
+    private final LibraryItem item;
+    private final LibraryItemStatus previousStatus;
+    private final String error;
+
+    public LoanOutcome(boolean success, LibraryItem item) {
+        this(success, item, null, null);
+    }
+
+    // previousStatus is the status the row held inside the same transaction, before the update ran.
+    public LoanOutcome(boolean success, LibraryItem item, LibraryItemStatus previousStatus) {
+        this(success, item, previousStatus, null);
+    }
+
+    private LoanOutcome(boolean success, LibraryItem item, LibraryItemStatus previousStatus, String error) {
+        this.success = success;
+        this.item = item;
+        this.previousStatus = previousStatus;
+        this.error = error;
+    }
+
+    public static LoanOutcome failed(LibraryItem item, String error) {
+        return new LoanOutcome(false, item, null, error);
+    }
+
+    public boolean isSuccess() { return success; }
+    public LibraryItem getItem() { return item; }
+    public boolean isItemFound() { return item != null; }
+    public LibraryItemStatus getPreviousStatus() { return previousStatus; }
+    public String getError() { return error; }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package library.models;
+
+import java.util.List;
+
+public class Page<T> {
+    private final List<T> items;
+    private final Integer nextAfterId;
+
+    public Page(List<T> items, Integer nextAfterId) {
+        this.items = List.copyOf(items);
+        this.nextAfterId = nextAfterId;
+    }
+
+    public List<T> getItems() { return items; }
+    public Integer getNextAfterId() { return nextAfterId; }
+    public boolean hasNext() { return nextAfterId != null; }
+}
@@ -0,0 +1,7 @@
+package library.models.enums;
+
+public enum AdmissionPolicy {
+    BLOCK,
+    REJECT,
+    SHED_LOWEST_PRIORITY
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package library.models.enums;
+
+public enum DispatchMode {
+    PLATFORM,
+    VIRTUAL,
+    PARTITIONED
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package library.models.enums;
+
+public enum EventDispatchMode {
+    SYNC,
+    ASYNC
+}
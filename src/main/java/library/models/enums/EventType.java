@@ -9,4 +9,49 @@ public enum EventType {
     RETURNED_MAGAZINE,
     RETURNED_THESIS,
     RETURNED_REFERENCE,
+    BORROWED_BOOK,
+    BORROWED_MAGAZINE,
+    BORROWED_THESIS,
+    BORROWED_REFERENCE,
+    REMOVED_BOOK,
+    REMOVED_MAGAZINE,
+    REMOVED_THESIS,
+    REMOVED_REFERENCE,
+    STATUS_CHANGED;
+
+    public static EventType added(LibraryItemType type) {
+        return switch (type) {
+            case BOOK -> ADDED_NEW_BOOK;
+            case MAGAZINE -> ADDED_NEW_MAGAZINE;
+            case THESIS -> ADDED_NEW_THESIS;
+            case REFERENCE -> ADDED_NEW_REFERENCE;
+        };
+    }
+
+    public static EventType borrowed(LibraryItemType type) {
+        return switch (type) {
+            case BOOK -> BORROWED_BOOK;
+            case MAGAZINE -> BORROWED_MAGAZINE;
+            case THESIS -> BORROWED_THESIS;
+            case REFERENCE -> BORROWED_REFERENCE;
+        };
+    }
+
+    public static EventType returned(LibraryItemType type) {
+        return switch (type) {
+            case BOOK -> RETURNED_BOOK;
+            case MAGAZINE -> RETURNED_MAGAZINE;
+            case THESIS -> RETURNED_THESIS;
+            case REFERENCE -> RETURNED_REFERENCE;
+        };
+    }
+
+    public static EventType removed(LibraryItemType type) {
+        return switch (type) {
+            case BOOK -> REMOVED_BOOK;
+            case MAGAZINE -> REMOVED_MAGAZINE;
+            case THESIS -> REMOVED_THESIS;
+            case REFERENCE -> REMOVED_REFERENCE;
+        };
+    }
 }
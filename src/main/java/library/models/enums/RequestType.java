@@ -1,10 +1,24 @@
 package library.models.enums;
 
 public enum RequestType {
-    CREATE,
-    DELETE,
-    UPDATE_STATUS,
-    BORROW,
-    RETURN,
-    EXIT
+    CREATE(ServiceClass.BULK),
+    DELETE(ServiceClass.BULK),
+    UPDATE_STATUS(ServiceClass.INTERACTIVE),
+    BORROW(ServiceClass.INTERACTIVE),
+    RETURN(ServiceClass.INTERACTIVE),
+    EXIT(ServiceClass.INTERACTIVE);
+
+    private final ServiceClass serviceClass;
+
+    RequestType(ServiceClass serviceClass) {
+        this.serviceClass = serviceClass;
+    }
+
+    public ServiceClass getServiceClass() {
+        return serviceClass;
+    }
+
+    public boolean isLoanWrite() {
+        return this == BORROW || this == RETURN || this == UPDATE_STATUS;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package library.models.enums;
+
+public enum ServiceClass {
+    INTERACTIVE(4, 500),
+    BULK(1, 2000);
+
+    private final int weight;
+    private final long starvationThresholdMillis;
+
+    ServiceClass(int weight, long starvationThresholdMillis) {
+        this.weight = weight;
+        this.starvationThresholdMillis = starvationThresholdMillis;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public long getStarvationThresholdMillis() {
+        return starvationThresholdMillis;
+    }
+}
\ No newline at end of file
@@ -1,8 +1,7 @@
 package library.models.enums;
 
 public enum ThreadType {
-    REQUEST_HANDLER("Request Handler Thread", "Handles user input and menu operations"),
-    RESULT_HANDLER("Result Handler Thread", "Processes library requests and generates results");
+    REQUEST_HANDLER("Request Handler Thread", "Handles user input and menu operations");
 
     private final String displayName;
     private final String description;
@@ -0,0 +1,7 @@
+package library.models.enums;
+
+public enum WaitStrategy {
+    BLOCKING,
+    SPINNING,
+    YIELDING
+}
@@ -0,0 +1,9 @@
+package library.models.exceptions;
+
+public class LibraryDataAccessException extends LibraryException {
+    private static final long serialVersionUID = 1L;
+
+    public LibraryDataAccessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,9 @@
+package library.models.exceptions;
+
+public class LibraryException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public LibraryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,9 @@
+package library.models.exceptions;
+
+public class LibraryTimeoutException extends LibraryException {
+    private static final long serialVersionUID = 1L;
+
+    public LibraryTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
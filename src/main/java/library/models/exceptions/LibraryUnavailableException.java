@@ -0,0 +1,9 @@
+package library.models.exceptions;
+
+public class LibraryUnavailableException extends LibraryException {
+    private static final long serialVersionUID = 1L;
+
+    public LibraryUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,9 +1,17 @@
 package library.models.structures;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class GenericLinkedList<T> implements Iterable<T> {
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    private static final int MIN_SPLIT_SIZE = 1 << 10;
+
     private Node<T> head;
     private Node<T> tail;
     private int size;
@@ -64,60 +72,100 @@ public class GenericLinkedList<T> implements Iterable<T> {
         return size == 0;
     }
 
-    private void updateTail() {
-        if (head == null) {
-            tail = null;
-            return;
-        }
-
-        Node<T> current = head;
-        while (current.getNext() != null) {
-            current = current.getNext();
-        }
-        tail = current;
-    }
-
+    // Stable, non-recursive bottom-up merge sort. Every merge also yields the tail of its result,
+    // so the tail is known at the end without walking the list again.
     public void sort(Comparator<T> comparator) {
         if (size <= 1) return;
-        head = mergeSort(head, comparator);
-        updateTail();
+        Run<T> sorted = sortRun(head, comparator);
+        head = sorted.head;
+        tail = sorted.tail;
     }
 
-
-    private Node<T> mergeSort(Node<T> head, Comparator<T> comparator) {
-        if (head == null || head.getNext() == null) {
-            return head;
+    // Sorts disjoint segments on the common ForkJoin pool and merges them pairwise, left before right,
+    // so equal elements keep their original order. Small lists, or a single-core pool, sort on the calling thread.
+    public void parallelSort(Comparator<T> comparator) {
+        if (size < PARALLEL_SORT_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            sort(comparator);
+            return;
         }
-
-        Node<T> middle = getMiddle(head);
-        Node<T> nextOfMiddle = middle.getNext();
-        middle.setNext(null);
-
-        Node<T> left = mergeSort(head, comparator);
-        Node<T> right = mergeSort(nextOfMiddle, comparator);
-
-        return merge(left, right, comparator);
+        Run<T> sorted = ForkJoinPool.commonPool().invoke(new ParallelMergeSort<>(head, size, comparator));
+        head = sorted.head;
+        tail = sorted.tail;
     }
 
-    private Node<T> getMiddle(Node<T> head) {
-        if (head == null) return null;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Node<T>[] newNodeArray(int length) {
+        return new Node[length];
+    }
 
-        Node<T> slow = head;
-        Node<T> fast = head;
+    // Binary-counter merge sort: slot i holds a sorted run of 2^i nodes, and each incoming node is carried
+    // up through the occupied slots. Runs are merged while they are still small and cache-resident,
+    // unlike full passes of width 1, 2, 4, ... over the whole list.
+    private static <T> Run<T> sortRun(Node<T> first, Comparator<T> comparator) {
+        Node<T>[] heads = newNodeArray(32);
+        Node<T>[] tails = newNodeArray(32);
+        Node<T> dummy = new Node<>(null);
 
-        while (fast.getNext() != null && fast.getNext().getNext() != null) {
-            slow = slow.getNext();
-            fast = fast.getNext().getNext();
+        Node<T> current = first;
+        while (current != null) {
+            Node<T> runHead = current;
+            Node<T> runTail = current;
+            current = current.getNext();
+            runTail.setNext(null);
+
+            int slot = 0;
+            while (heads[slot] != null) {
+                // The occupied slot holds earlier nodes, so it goes on the left to keep the sort stable.
+                runTail = merge(heads[slot], tails[slot], runHead, runTail, comparator, dummy);
+                runHead = dummy.getNext();
+                heads[slot] = null;
+                tails[slot] = null;
+                slot++;
+            }
+            heads[slot] = runHead;
+            tails[slot] = runTail;
         }
 
-        return slow;
+        Node<T> sortedHead = null;
+        Node<T> sortedTail = null;
+        for (int slot = 0; slot < heads.length; slot++) {
+            if (heads[slot] == null) {
+                continue;
+            }
+            if (sortedHead == null) {
+                sortedHead = heads[slot];
+                sortedTail = tails[slot];
+            } else {
+                sortedTail = merge(heads[slot], tails[slot], sortedHead, sortedTail, comparator, dummy);
+                sortedHead = dummy.getNext();
+            }
+        }
+        return new Run<>(sortedHead, sortedTail);
     }
 
-    private Node<T> merge(Node<T> left, Node<T> right, Comparator<T> comparator) {
-        Node<T> dummy = new Node<>(null);
-        Node<T> current = dummy;
+    // Cuts the list after count nodes and returns the node that followed the cut.
+    private static <T> Node<T> split(Node<T> first, int count) {
+        for (int i = 1; first != null && i < count; i++) {
+            first = first.getNext();
+        }
+        if (first == null) {
+            return null;
+        }
+        Node<T> rest = first.getNext();
+        first.setNext(null);
+        return rest;
+    }
 
+    // Links the merge of two sorted runs after target and returns its last node.
+    private static <T> Node<T> merge(Node<T> left, Node<T> leftTail, Node<T> right, Node<T> rightTail,
+                                     Comparator<T> comparator, Node<T> target) {
+        if (comparator.compare(leftTail.getData(), right.getData()) <= 0) {
+            target.setNext(left);
+            leftTail.setNext(right);
+            return rightTail;
+        }
 
+        Node<T> current = target;
         while (left != null && right != null) {
             if (comparator.compare(left.getData(), right.getData()) <= 0) {
                 current.setNext(left);
@@ -129,14 +177,54 @@ public class GenericLinkedList<T> implements Iterable<T> {
             current = current.getNext();
         }
 
-
         if (left != null) {
             current.setNext(left);
-        } else {
-            current.setNext(right);
+            return leftTail;
+        }
+        current.setNext(right);
+        return rightTail;
+    }
+
+    private static final class Run<T> {
+        private final Node<T> head;
+        private final Node<T> tail;
+
+        private Run(Node<T> head, Node<T> tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+    }
+
+    private static final class ParallelMergeSort<T> extends RecursiveTask<Run<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node<T> first;
+        private final int length;
+        private final Comparator<T> comparator;
+
+        private ParallelMergeSort(Node<T> first, int length, Comparator<T> comparator) {
+            this.first = first;
+            this.length = length;
+            this.comparator = comparator;
         }
 
-        return dummy.getNext();
+        @Override
+        protected Run<T> compute() {
+            if (length < PARALLEL_SORT_THRESHOLD) {
+                return sortRun(first, comparator);
+            }
+
+            int leftLength = length / 2;
+            Node<T> rightFirst = split(first, leftLength);
+            ParallelMergeSort<T> leftTask = new ParallelMergeSort<>(first, leftLength, comparator);
+            leftTask.fork();
+            Run<T> right = new ParallelMergeSort<>(rightFirst, length - leftLength, comparator).compute();
+            Run<T> left = leftTask.join();
+
+            Node<T> dummy = new Node<>(null);
+            Node<T> last = merge(left.head, left.tail, right.head, right.tail, comparator, dummy);
+            return new Run<>(dummy.getNext(), last);
+        }
     }
 
     public GenericLinkedList<T> filter(Predicate<T> predicate) {
@@ -170,6 +258,85 @@ public class GenericLinkedList<T> implements Iterable<T> {
         };
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator<>(head, size);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // Lazy, re-iterable view: map and filter are applied while traversing, without intermediate lists.
+    // filter(...) on the list itself stays eager and returns a new list.
+    public LinkedListView<T> view() {
+        return new LinkedListView<>(this::spliterator);
+    }
+
+    // Walks the nodes in place. Splits hand off the first half as an exactly sized spliterator,
+    // so both halves stay SIZED and balanced for parallel streams.
+    private static final class NodeSpliterator<T> implements Spliterator<T> {
+        private Node<T> current;
+        private int remaining;
+
+        private NodeSpliterator(Node<T> current, int remaining) {
+            this.current = current;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining <= 0 || current == null) {
+                return false;
+            }
+            T data = current.getData();
+            current = current.getNext();
+            remaining--;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Node<T> node = current;
+            int count = remaining;
+            current = null;
+            remaining = 0;
+            for (; count > 0 && node != null; count--) {
+                action.accept(node.getData());
+                node = node.getNext();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining < MIN_SPLIT_SIZE * 2) {
+                return null;
+            }
+            int prefixSize = remaining / 2;
+            Node<T> prefixHead = current;
+            for (int i = 0; i < prefixSize; i++) {
+                current = current.getNext();
+            }
+            remaining -= prefixSize;
+            return new NodeSpliterator<>(prefixHead, prefixSize);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public T[] toArray(T[] array) {
         if (array.length < size) {
@@ -0,0 +1,153 @@
+package library.models.structures;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// A chain of lazy map/filter steps over a GenericLinkedList. Nothing is copied until a terminal
+// call, and every traversal starts again from the source list.
+public class LinkedListView<T> implements Iterable<T> {
+    private final Supplier<Spliterator<T>> source;
+
+    LinkedListView(Supplier<Spliterator<T>> source) {
+        this.source = source;
+    }
+
+    public <R> LinkedListView<R> map(Function<? super T, ? extends R> mapper) {
+        return new LinkedListView<>(() -> new MappingSpliterator<>(source.get(), mapper));
+    }
+
+    public LinkedListView<T> filter(Predicate<? super T> predicate) {
+        return new LinkedListView<>(() -> new FilteringSpliterator<>(source.get(), predicate));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return source.get();
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    public GenericLinkedList<T> toLinkedList() {
+        GenericLinkedList<T> result = new GenericLinkedList<>();
+        spliterator().forEachRemaining(result::add);
+        return result;
+    }
+
+    public List<T> toList() {
+        List<T> list = new ArrayList<>();
+        spliterator().forEachRemaining(list::add);
+        return list;
+    }
+
+    private static final class MappingSpliterator<S, T> implements Spliterator<T> {
+        private final Spliterator<S> delegate;
+        private final Function<? super S, ? extends T> mapper;
+
+        private MappingSpliterator(Spliterator<S> delegate, Function<? super S, ? extends T> mapper) {
+            this.delegate = delegate;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return delegate.tryAdvance(data -> action.accept(mapper.apply(data)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            delegate.forEachRemaining(data -> action.accept(mapper.apply(data)));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<S> prefix = delegate.trySplit();
+            return prefix == null ? null : new MappingSpliterator<>(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        // Mapping keeps the count and order but says nothing about the new values.
+        @Override
+        public int characteristics() {
+            return delegate.characteristics() & (ORDERED | SIZED | SUBSIZED);
+        }
+    }
+
+    private static final class FilteringSpliterator<T> implements Spliterator<T> {
+        private final Spliterator<T> delegate;
+        private final Predicate<? super T> predicate;
+        private final Consumer<T> capture;
+        private T matched;
+        private boolean found;
+
+        private FilteringSpliterator(Spliterator<T> delegate, Predicate<? super T> predicate) {
+            this.delegate = delegate;
+            this.predicate = predicate;
+            this.capture = data -> {
+                if (predicate.test(data)) {
+                    matched = data;
+                    found = true;
+                }
+            };
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            found = false;
+            while (!found) {
+                if (!delegate.tryAdvance(capture)) {
+                    return false;
+                }
+            }
+            T data = matched;
+            matched = null;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            delegate.forEachRemaining(data -> {
+                if (predicate.test(data)) {
+                    action.accept(data);
+                }
+            });
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> prefix = delegate.trySplit();
+            return prefix == null ? null : new FilteringSpliterator<>(prefix, predicate);
+        }
+
+        // An upper bound only: the predicate may drop any number of elements.
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics() & ~(SIZED | SUBSIZED);
+        }
+    }
+}
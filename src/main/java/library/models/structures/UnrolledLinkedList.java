@@ -0,0 +1,208 @@
+package library.models.structures;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+// Same API as GenericLinkedList, but each node holds a small array of elements, so scans walk
+// contiguous memory and the list allocates one node per chunk instead of one per element.
+public class UnrolledLinkedList<T> implements Iterable<T> {
+    private static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    private final int chunkCapacity;
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public UnrolledLinkedList(int chunkCapacity) {
+        if (chunkCapacity < 2) {
+            throw new IllegalArgumentException("Chunk capacity must be at least 2: " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+    }
+
+    public void add(T data) {
+        if (tail == null) {
+            head = new Chunk(chunkCapacity);
+            tail = head;
+        } else if (tail.count == chunkCapacity) {
+            Chunk chunk = new Chunk(chunkCapacity);
+            tail.next = chunk;
+            tail = chunk;
+        }
+        tail.items[tail.count++] = data;
+        size++;
+    }
+
+    public boolean remove(T data) {
+        Chunk previous = null;
+        for (Chunk chunk = head; chunk != null; previous = chunk, chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                if (Objects.equals(chunk.items[i], data)) {
+                    removeAt(previous, chunk, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void removeAt(Chunk previous, Chunk chunk, int index) {
+        int moved = chunk.count - index - 1;
+        if (moved > 0) {
+            System.arraycopy(chunk.items, index + 1, chunk.items, index, moved);
+        }
+        chunk.items[--chunk.count] = null;
+        size--;
+
+        if (chunk.count == 0) {
+            unlink(previous, chunk);
+            return;
+        }
+
+        // Keep chunks at least half full so scans do not degrade into pointer chasing after many removals.
+        Chunk next = chunk.next;
+        if (next != null && chunk.count < chunkCapacity / 2 && chunk.count + next.count <= chunkCapacity) {
+            System.arraycopy(next.items, 0, chunk.items, chunk.count, next.count);
+            chunk.count += next.count;
+            unlink(chunk, next);
+        }
+    }
+
+    private void unlink(Chunk previous, Chunk chunk) {
+        if (previous == null) {
+            head = chunk.next;
+        } else {
+            previous.next = chunk.next;
+        }
+        if (chunk == tail) {
+            tail = previous;
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Sorts a flat copy with the JDK's stable merge sort, then refills the chunks densely in order.
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<T> comparator) {
+        if (size <= 1) return;
+        Object[] elements = toObjectArray();
+        Arrays.sort(elements, (left, right) -> comparator.compare((T) left, (T) right));
+
+        int index = 0;
+        Chunk last = head;
+        for (Chunk chunk = head; chunk != null && index < elements.length; chunk = chunk.next) {
+            int count = Math.min(chunkCapacity, elements.length - index);
+            System.arraycopy(elements, index, chunk.items, 0, count);
+            if (count < chunk.count) {
+                Arrays.fill(chunk.items, count, chunk.count, null);
+            }
+            chunk.count = count;
+            index += count;
+            last = chunk;
+        }
+        last.next = null;
+        tail = last;
+    }
+
+    public UnrolledLinkedList<T> filter(Predicate<T> predicate) {
+        UnrolledLinkedList<T> result = new UnrolledLinkedList<>(chunkCapacity);
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                T data = chunk.get(i);
+                if (predicate.test(data)) {
+                    result.add(data);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Chunk current = head;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current != null && index < current.count;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T data = current.get(index++);
+                if (index == current.count) {
+                    current = current.next;
+                    index = 0;
+                }
+                return data;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public T[] toArray(T[] array) {
+        if (array.length < size) {
+            array = (T[]) java.lang.reflect.Array.newInstance(
+                    array.getClass().getComponentType(), size);
+        }
+
+        copyInto(array);
+
+        if (array.length > size) {
+            array[size] = null;
+        }
+
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        return new ArrayList<>((List<T>) Arrays.asList(toObjectArray()));
+    }
+
+    private Object[] toObjectArray() {
+        Object[] elements = new Object[size];
+        copyInto(elements);
+        return elements;
+    }
+
+    private void copyInto(Object[] target) {
+        int index = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.items, 0, target, index, chunk.count);
+            index += chunk.count;
+        }
+    }
+
+    private final class Chunk {
+        private final Object[] items;
+        private int count;
+        private Chunk next;
+
+        private Chunk(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int index) {
+            return (T) items[index];
+        }
+    }
+}
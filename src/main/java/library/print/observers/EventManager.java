@@ -1,19 +1,42 @@
 package library.print.observers;
 
+import library.models.LibraryEvent;
+import library.models.enums.EventDispatchMode;
 import library.models.enums.EventType;
+import library.models.enums.WaitStrategy;
 import library.print.observers.listeners.EventListener;
 import library.print.observers.listeners.PrinterListener;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class EventManager {
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
     private static EventManager eventBus;
-    private final Map<EventType, List<EventListener>> listeners;
+    private static EventDispatchMode dispatchMode = EventDispatchMode.SYNC;
+    private static int ringSize = 1024;
+    private static WaitStrategy waitStrategy = WaitStrategy.BLOCKING;
+
+    private static final EventListener[] NO_LISTENERS = new EventListener[0];
+
+    // Copy-on-write per event type: publishers read the current array without locking or copying.
+    private final AtomicReferenceArray<EventListener[]> listeners;
     private final PrinterListener listener;
 
+    private final EventDispatchMode mode;
+    private final EventRingBuffer ringBuffer;
+    private final Map<String, ListenerGroup> groups = new ConcurrentHashMap<>();
+
     private EventManager() {
-        listeners = new EnumMap<>(EventType.class);
+        listeners = new AtomicReferenceArray<>(EventType.values().length);
         Arrays.stream(EventType.values())
-                .forEach(type -> listeners.put(type, new ArrayList<>()));
+                .forEach(type -> listeners.set(type.ordinal(), NO_LISTENERS));
+
+        mode = dispatchMode;
+        ringBuffer = mode == EventDispatchMode.ASYNC ? new EventRingBuffer(ringSize, waitStrategy) : null;
 
         listener = new PrinterListener();
         subscribeToAll(listener);
@@ -26,34 +49,209 @@ public class EventManager {
         return eventBus;
     }
 
+    // Must run before the first getEventBus() call; the ring is sized once and never grows.
+    public static synchronized void configure(EventDispatchMode mode, int ringCapacity, WaitStrategy strategy) {
+        if (eventBus != null) {
+            throw new IllegalStateException("Event bus is already running in " + eventBus.mode + " mode");
+        }
+        dispatchMode = mode;
+        ringSize = ringCapacity;
+        waitStrategy = strategy;
+    }
+
     private void subscribeToAll(EventListener listener) {
         Arrays.stream(EventType.values())
                 .forEach(type -> subscribe(type, listener));
     }
 
     public void subscribe(EventType eventType, EventListener listener) {
-        var eventListeners = listeners.get(eventType);
-        synchronized (eventListeners) {
-            if (!eventListeners.contains(listener)) {
-                eventListeners.add(listener);
+        subscribe(eventType, listener, listener.getClass().getSimpleName());
+    }
+
+    // Listeners in the same group share one consumer thread in ASYNC mode, so a slow group only lags itself.
+    public void subscribe(EventType eventType, EventListener listener, String group) {
+        synchronized (listeners) {
+            EventListener[] current = listeners.get(eventType.ordinal());
+            if (!Arrays.asList(current).contains(listener)) {
+                EventListener[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = listener;
+                listeners.set(eventType.ordinal(), updated);
             }
         }
+        if (mode == EventDispatchMode.ASYNC) {
+            groups.computeIfAbsent(group, ListenerGroup::new).add(eventType, listener);
+        }
     }
 
     public void unsubscribe(EventType eventType, EventListener listener) {
-        var eventListeners = listeners.get(eventType);
-        synchronized (eventListeners) {
-            eventListeners.remove(listener);
+        synchronized (listeners) {
+            EventListener[] current = listeners.get(eventType.ordinal());
+            EventListener[] updated = Arrays.stream(current)
+                    .filter(subscribed -> subscribed != listener)
+                    .toArray(EventListener[]::new);
+            listeners.set(eventType.ordinal(), updated.length == 0 ? NO_LISTENERS : updated);
+        }
+        if (mode == EventDispatchMode.ASYNC) {
+            groups.values().forEach(group -> group.remove(eventType, listener));
+        }
+    }
+
+    // Publishers can check this first and skip building an event nobody would receive.
+    public boolean hasListeners(EventType eventType) {
+        return listeners.get(eventType.ordinal()).length > 0;
+    }
+
+    public void publish(LibraryEvent event) {
+        if (mode == EventDispatchMode.ASYNC) {
+            ringBuffer.publish(event);
+            return;
+        }
+
+        // The write behind the event is already committed, so a failing listener must not fail the caller.
+        for (EventListener eventListener : listeners.get(event.getEventType().ordinal())) {
+            deliver(eventListener, event);
+        }
+    }
+
+    private static void deliver(EventListener eventListener, LibraryEvent event) {
+        try {
+            eventListener.update(event);
+        } catch (RuntimeException e) {
+            System.err.println("❌ Event listener failed on " + event.getEventType() + ": " + e.getMessage());
+        }
+    }
+
+    // Number of published events each listener has not handled yet; always zero in SYNC mode.
+    public Map<EventListener, Long> getListenerLag() {
+        Map<EventListener, Long> lag = new LinkedHashMap<>();
+        if (mode != EventDispatchMode.ASYNC) {
+            return lag;
+        }
+        long cursor = ringBuffer.getCursor();
+        for (ListenerGroup group : groups.values()) {
+            for (Subscription subscription : group.subscriptions) {
+                lag.merge(subscription.listener, cursor - subscription.sequence.get(), Math::max);
+            }
+        }
+        return lag;
+    }
+
+    public String describeLag() {
+        if (mode != EventDispatchMode.ASYNC) {
+            return "synchronous dispatch";
         }
+        StringJoiner joiner = new StringJoiner(", ", "", "");
+        getListenerLag().forEach((eventListener, lag) ->
+                joiner.add(eventListener.getClass().getSimpleName() + "=" + lag));
+        return String.format("published: %d, ring size: %d, producer waits: %d, lag [%s]",
+                ringBuffer.getCursor() + 1, ringBuffer.getCapacity(), ringBuffer.getFullWaitCount(), joiner);
+    }
+
+    public EventDispatchMode getMode() {
+        return mode;
+    }
+
+    // Lets every group drain what was published before the call, then stops the consumer threads.
+    public void shutdown() {
+        groups.values().forEach(ListenerGroup::stop);
+        groups.values().forEach(ListenerGroup::join);
     }
 
-    public void publish(EventType eventType, String message) {
-        var eventListeners = listeners.get(eventType);
-        List<EventListener> listenersCopy;
-        synchronized (eventListeners) {
-            listenersCopy = new ArrayList<>(eventListeners);
+    private final class ListenerGroup implements Runnable {
+        private final AtomicLong sequence;
+        private final Thread thread;
+        private volatile Subscription[] subscriptions = new Subscription[0];
+        private volatile boolean running = true;
+
+        private ListenerGroup(String name) {
+            sequence = ringBuffer.addConsumer();
+            thread = new Thread(this, "event-" + name);
+            thread.setDaemon(true);
+            thread.start();
         }
 
-        listenersCopy.forEach(listener -> listener.update(eventType, message));
+        private synchronized void add(EventType eventType, EventListener eventListener) {
+            for (Subscription subscription : subscriptions) {
+                if (subscription.listener == eventListener) {
+                    subscription.types = with(subscription.types, eventType, true);
+                    return;
+                }
+            }
+            Subscription[] updated = Arrays.copyOf(subscriptions, subscriptions.length + 1);
+            updated[updated.length - 1] = new Subscription(eventListener, eventType, sequence.get());
+            subscriptions = updated;
+        }
+
+        private synchronized void remove(EventType eventType, EventListener eventListener) {
+            for (Subscription subscription : subscriptions) {
+                if (subscription.listener == eventListener) {
+                    subscription.types = with(subscription.types, eventType, false);
+                }
+            }
+        }
+
+        private static boolean[] with(boolean[] types, EventType eventType, boolean subscribed) {
+            boolean[] updated = types.clone();
+            updated[eventType.ordinal()] = subscribed;
+            return updated;
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            while (running || next <= ringBuffer.getCursor()) {
+                long available;
+                try {
+                    available = ringBuffer.waitFor(next, POLL_NANOS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                for (long current = next; current <= available; current++) {
+                    dispatch(current);
+                }
+                if (available >= next) {
+                    sequence.set(available);
+                    next = available + 1;
+                }
+            }
+            ringBuffer.removeConsumer(sequence);
+        }
+
+        private void dispatch(long current) {
+            LibraryEvent event = ringBuffer.get(current);
+            int type = event.getEventType().ordinal();
+            for (Subscription subscription : subscriptions) {
+                if (subscription.types[type]) {
+                    deliver(subscription.listener, event);
+                }
+                subscription.sequence.lazySet(current);
+            }
+        }
+
+        private void stop() {
+            running = false;
+        }
+
+        private void join() {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class Subscription {
+        private final EventListener listener;
+        private final AtomicLong sequence;
+        private volatile boolean[] types = new boolean[EventType.values().length];
+
+        private Subscription(EventListener listener, EventType eventType, long startSequence) {
+            this.listener = listener;
+            this.sequence = new AtomicLong(startSequence);
+            this.types[eventType.ordinal()] = true;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,179 @@
+package library.print.observers;
+
+import library.models.LibraryEvent;
+import library.models.enums.WaitStrategy;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Multi-producer ring of event references. Producers claim a sequence, store the event in its slot and
+// flag it available; they never overtake the slowest registered consumer sequence. The availability flag
+// is written after the slot, so a consumer that sees it also sees the event.
+public class EventRingBuffer {
+    private static final long BLOCKING_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final LibraryEvent[] slots;
+    private final AtomicIntegerArray availableRounds;
+    private final int mask;
+    private final int indexShift;
+    private final WaitStrategy waitStrategy;
+
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong gatingCache = new AtomicLong(-1);
+    private volatile AtomicLong[] gatingSequences = new AtomicLong[0];
+    private final LongAdder fullWaits = new LongAdder();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    public EventRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two: " + capacity);
+        }
+        this.slots = new LibraryEvent[capacity];
+        this.availableRounds = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            availableRounds.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(capacity);
+        this.waitStrategy = waitStrategy;
+    }
+
+    public void publish(LibraryEvent event) {
+        long sequence = next();
+        slots[(int) sequence & mask] = event;
+        availableRounds.set((int) sequence & mask, (int) (sequence >>> indexShift));
+
+        if (waitStrategy == WaitStrategy.BLOCKING && waiters.get() > 0) {
+            lock.lock();
+            try {
+                published.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private long next() {
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+            long wrapPoint = next - slots.length;
+
+            if (wrapPoint > gatingCache.get()) {
+                long gate = minimumGatingSequence(current);
+                gatingCache.set(gate);
+                if (wrapPoint > gate) {
+                    fullWaits.increment();
+                    LockSupport.parkNanos(1);
+                }
+                continue;
+            }
+
+            if (claimed.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long minimumGatingSequence(long defaultValue) {
+        long minimum = defaultValue;
+        for (AtomicLong sequence : gatingSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+
+    // The returned sequence starts at the current cursor, so a new consumer only sees later events.
+    public synchronized AtomicLong addConsumer() {
+        AtomicLong sequence = new AtomicLong(claimed.get());
+        AtomicLong[] updated = Arrays.copyOf(gatingSequences, gatingSequences.length + 1);
+        updated[updated.length - 1] = sequence;
+        gatingSequences = updated;
+        return sequence;
+    }
+
+    public synchronized void removeConsumer(AtomicLong sequence) {
+        AtomicLong[] current = gatingSequences;
+        AtomicLong[] updated = new AtomicLong[current.length - 1];
+        int index = 0;
+        for (AtomicLong candidate : current) {
+            if (candidate != sequence && index < updated.length) {
+                updated[index++] = candidate;
+            }
+        }
+        gatingSequences = updated;
+    }
+
+    public boolean isAvailable(long sequence) {
+        return availableRounds.get((int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+
+    // Waits until the sequence is published or the timeout elapses; returns the highest
+    // contiguous published sequence, or sequence - 1 if nothing arrived.
+    public long waitFor(long sequence, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        while (!isAvailable(sequence)) {
+            if (System.nanoTime() - deadline >= 0) {
+                return sequence - 1;
+            }
+            switch (waitStrategy) {
+                case SPINNING -> Thread.onSpinWait();
+                case YIELDING -> Thread.yield();
+                case BLOCKING -> awaitPublication(sequence, Math.min(BLOCKING_WAIT_NANOS, deadline - System.nanoTime()));
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+
+        long highest = sequence;
+        long limit = claimed.get();
+        while (highest < limit && isAvailable(highest + 1)) {
+            highest++;
+        }
+        return highest;
+    }
+
+    private void awaitPublication(long sequence, long nanos) throws InterruptedException {
+        lock.lock();
+        try {
+            waiters.incrementAndGet();
+            try {
+                if (!isAvailable(sequence) && nanos > 0) {
+                    published.awaitNanos(nanos);
+                }
+            } finally {
+                waiters.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public LibraryEvent get(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    public long getCursor() {
+        return claimed.get();
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    public long getFullWaitCount() {
+        return fullWaits.sum();
+    }
+}
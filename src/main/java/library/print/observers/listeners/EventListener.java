@@ -1,7 +1,7 @@
 package library.print.observers.listeners;
 
-import library.models.enums.EventType;
+import library.models.LibraryEvent;
 
 public interface EventListener {
-    void update(EventType eventType, String message);
+    void update(LibraryEvent event);
 }
\ No newline at end of file
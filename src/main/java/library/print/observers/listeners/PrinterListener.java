@@ -1,10 +1,10 @@
 package library.print.observers.listeners;
 
-import library.models.enums.EventType;
+import library.models.LibraryEvent;
 
 public class PrinterListener implements EventListener {
     @Override
-    public void update(EventType eventType, String message) {
-        System.out.println("📢 Event: " + eventType + " | Message: " + message);
+    public void update(LibraryEvent event) {
+        System.out.println("📢 Event: " + event.getEventType() + " | Message: " + event.getMessage());
     }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package library.search.index;
+
+import java.util.Arrays;
+
+class PostingList {
+    private int[] ids = new int[4];
+    private int size;
+
+    void add(int id) {
+        if (size == 0 || id > ids[size - 1]) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return;
+        }
+
+        int insertAt = -position - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    static int[] intersect(PostingList[] lists) {
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] candidates = lists[0].toArray();
+        int count = candidates.length;
+
+        for (int i = 1; i < lists.length && count > 0; i++) {
+            int kept = 0;
+            for (int j = 0; j < count; j++) {
+                if (lists[i].contains(candidates[j])) {
+                    candidates[kept++] = candidates[j];
+                }
+            }
+            count = kept;
+        }
+
+        return Arrays.copyOf(candidates, count);
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package library.search.index;
+
+import library.models.enums.SearchAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TrigramIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Integer, IndexedText> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private enum Field { TITLE, AUTHOR }
+
+    public void put(int id, String title, String author) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            IndexedText text = new IndexedText(nullToEmpty(title), nullToEmpty(author));
+            documents.put(id, text);
+            addPostings(id, Field.TITLE, text.title);
+            addPostings(id, Field.AUTHOR, text.author);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Integer> search(SearchAlgorithm algorithm, String keyword) {
+        Field field = switch (algorithm) {
+            case SEARCH_BY_TITLE_EXACT, SEARCH_BY_TITLE_IGNORE_CASE -> Field.TITLE;
+            case SEARCH_BY_AUTHOR_EXACT, SEARCH_BY_AUTHOR_IGNORE_CASE -> Field.AUTHOR;
+        };
+        boolean ignoreCase = algorithm == SearchAlgorithm.SEARCH_BY_TITLE_IGNORE_CASE
+                || algorithm == SearchAlgorithm.SEARCH_BY_AUTHOR_IGNORE_CASE;
+        String loweredKeyword = keyword.toLowerCase();
+        List<Integer> results = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            if (loweredKeyword.length() < GRAM_LENGTH) {
+                documents.forEach((id, text) -> {
+                    if (matches(text.get(field), keyword, loweredKeyword, ignoreCase)) {
+                        results.add(id);
+                    }
+                });
+                results.sort(Integer::compare);
+                return results;
+            }
+
+            long[] keys = gramKeys(field, loweredKeyword);
+            PostingList[] lists = new PostingList[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                lists[i] = postings.get(keys[i]);
+                if (lists[i] == null) {
+                    return results;
+                }
+            }
+
+            for (int id : PostingList.intersect(lists)) {
+                if (matches(documents.get(id).get(field), keyword, loweredKeyword, ignoreCase)) {
+                    results.add(id);
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(int id) {
+        IndexedText previous = documents.remove(id);
+        if (previous != null) {
+            removePostings(id, Field.TITLE, previous.title);
+            removePostings(id, Field.AUTHOR, previous.author);
+        }
+    }
+
+    private void addPostings(int id, Field field, String text) {
+        for (long key : gramKeys(field, text.toLowerCase())) {
+            postings.computeIfAbsent(key, k -> new PostingList()).add(id);
+        }
+    }
+
+    private void removePostings(int id, Field field, String text) {
+        for (long key : gramKeys(field, text.toLowerCase())) {
+            PostingList list = postings.get(key);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    private static long[] gramKeys(Field field, String lowered) {
+        int count = lowered.length() - GRAM_LENGTH + 1;
+        if (count <= 0) {
+            return new long[0];
+        }
+
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) field.ordinal() << 48)
+                    | ((long) lowered.charAt(i) << 32)
+                    | ((long) lowered.charAt(i + 1) << 16)
+                    | lowered.charAt(i + 2);
+        }
+        return Arrays.stream(keys).distinct().toArray();
+    }
+
+    private static boolean matches(String text, String keyword, String loweredKeyword, boolean ignoreCase) {
+        return ignoreCase ? text.toLowerCase().contains(loweredKeyword) : text.contains(keyword);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static final class IndexedText {
+        private final String title;
+        private final String author;
+
+        private IndexedText(String title, String author) {
+            this.title = title;
+            this.author = author;
+        }
+
+        private String get(Field field) {
+            return field == Field.TITLE ? title : author;
+        }
+    }
+}
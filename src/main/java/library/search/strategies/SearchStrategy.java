@@ -2,6 +2,15 @@ package library.search.strategies;
 
 import library.models.LibraryItem;
 
+import java.util.Optional;
+
 public interface SearchStrategy {
+    String CASE_SENSITIVE_COLLATION = "utf8mb4_bin";
+    String CASE_INSENSITIVE_COLLATION = "utf8mb4_0900_as_ci";
+
     boolean matches(LibraryItem item, String searchTerm);
+
+    default Optional<SqlPredicate> toSqlPredicate(String searchTerm) {
+        return Optional.empty();
+    }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import library.search.strategies.impl.AuthorIgnoreCaseSearch;
 import library.search.strategies.impl.TitleExactSearch;
 import library.search.strategies.impl.TitleIgnoreCaseSearch;
 
+import java.util.Optional;
+
 public class SearchStrategyFactory {
 
     public static SearchStrategy createStrategy(SearchAlgorithm algorithm) {
@@ -16,4 +18,8 @@ public class SearchStrategyFactory {
             case SEARCH_BY_AUTHOR_IGNORE_CASE -> new AuthorIgnoreCaseSearch();
         };
     }
+
+    public static Optional<SqlPredicate> createPushdownPredicate(SearchAlgorithm algorithm, String searchTerm) {
+        return createStrategy(algorithm).toSqlPredicate(searchTerm);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package library.search.strategies;
+
+public class SqlPredicate {
+    private final String condition;
+    private final Object[] parameters;
+
+    public SqlPredicate(String condition, Object... parameters) {
+        this.condition = condition;
+        this.parameters = parameters;
+    }
+
+    public static SqlPredicate contains(String column, String collation, String searchTerm) {
+        return new SqlPredicate(column + " LIKE ? COLLATE " + collation, "%" + escapeLike(searchTerm) + "%");
+    }
+
+    public static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    public String getCondition() { return condition; }
+    public Object[] getParameters() { return parameters; }
+}
\ No newline at end of file
@@ -2,10 +2,18 @@ package library.search.strategies.impl;
 
 import library.models.LibraryItem;
 import library.search.strategies.SearchStrategy;
+import library.search.strategies.SqlPredicate;
+
+import java.util.Optional;
 
 public class AuthorIgnoreCaseSearch implements SearchStrategy {
     @Override
     public boolean matches(LibraryItem item, String searchTerm) {
         return item.getAuthor().toLowerCase().contains(searchTerm.toLowerCase());
     }
+
+    @Override
+    public Optional<SqlPredicate> toSqlPredicate(String searchTerm) {
+        return Optional.of(SqlPredicate.contains("li.author", CASE_INSENSITIVE_COLLATION, searchTerm));
+    }
 }
\ No newline at end of file
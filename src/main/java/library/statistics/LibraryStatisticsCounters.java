@@ -0,0 +1,203 @@
+package library.statistics;
+
+import library.database.dao.LibraryStatisticsDAO;
+import library.models.LibraryStatistics;
+import library.models.enums.LibraryItemStatus;
+import library.models.enums.LibraryItemType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class LibraryStatisticsCounters {
+    private static final Logger logger = LoggerFactory.getLogger(LibraryStatisticsCounters.class);
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final LibraryStatisticsDAO statisticsDAO;
+    private final Map<LibraryItemStatus, LongAdder> statusCounts = new EnumMap<>(LibraryItemStatus.class);
+    private final Map<LibraryItemType, LongAdder> typeCounts = new EnumMap<>(LibraryItemType.class);
+    private volatile long overdueCount;
+
+    // Writers update counters under the read lock and bump writeSequence; reconcile applies a correction
+    // under the write lock, and only if no writer touched the counters since its snapshot was started.
+    private final ReadWriteLock counterLock = new ReentrantReadWriteLock();
+    private final LongAdder writeSequence = new LongAdder();
+    private final LongAdder skippedReconciliations = new LongAdder();
+
+    private final LongAdder reconciliations = new LongAdder();
+    private final LongAdder driftCorrections = new LongAdder();
+    private ScheduledExecutorService reconciler;
+
+    public LibraryStatisticsCounters(LibraryStatisticsDAO statisticsDAO) {
+        this.statisticsDAO = statisticsDAO;
+        for (LibraryItemStatus status : LibraryItemStatus.values()) {
+            statusCounts.put(status, new LongAdder());
+        }
+        for (LibraryItemType type : LibraryItemType.values()) {
+            typeCounts.put(type, new LongAdder());
+        }
+    }
+
+    public synchronized void start(long reconcileIntervalSeconds) {
+        try {
+            reconcile();
+        } catch (SQLException e) {
+            logger.error("Error loading initial statistics, counters start at zero: {}", e.getMessage());
+        }
+
+        if (reconciler == null && reconcileIntervalSeconds > 0) {
+            reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "statistics-reconciler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            reconciler.scheduleWithFixedDelay(this::reconcileQuietly,
+                    reconcileIntervalSeconds, reconcileIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    public synchronized void stop() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+            reconciler = null;
+        }
+    }
+
+    public void reconcile() throws SQLException {
+        long drift = 0;
+        boolean applied = false;
+
+        for (int attempt = 0; attempt < MAX_RECONCILE_ATTEMPTS && !applied; attempt++) {
+            long sequence = writeSequence.sum();
+            LibraryStatistics snapshot = statisticsDAO.snapshot();
+
+            counterLock.writeLock().lock();
+            try {
+                // A write that landed during the snapshot may or may not be in it; correcting now would
+                // erase it or count it twice, so the pass is retried instead.
+                if (writeSequence.sum() != sequence) {
+                    continue;
+                }
+                for (LibraryItemStatus status : LibraryItemStatus.values()) {
+                    drift += correct(statusCounts.get(status), snapshot.getCount(status));
+                }
+                for (LibraryItemType type : LibraryItemType.values()) {
+                    drift += correct(typeCounts.get(type), snapshot.getCount(type));
+                }
+                overdueCount = snapshot.getOverdueCount();
+                applied = true;
+            } finally {
+                counterLock.writeLock().unlock();
+            }
+        }
+
+        if (!applied) {
+            skippedReconciliations.increment();
+            logger.debug("Statistics counters kept changing during reconciliation, trying again next round");
+            return;
+        }
+
+        reconciliations.increment();
+        if (drift > 0) {
+            driftCorrections.add(drift);
+            if (reconciliations.sum() > 1) {
+                logger.warn("Statistics counters drifted by {} and were reconciled", drift);
+            }
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (SQLException e) {
+            logger.error("Error reconciling statistics counters: {}", e.getMessage());
+        }
+    }
+
+    private static long correct(LongAdder counter, long actual) {
+        long delta = actual - counter.sum();
+        if (delta != 0) {
+            counter.add(delta);
+        }
+        return Math.abs(delta);
+    }
+
+    public void itemAdded(LibraryItemType type, LibraryItemStatus status) {
+        counterLock.readLock().lock();
+        try {
+            typeCounts.get(type).increment();
+            statusCounts.get(status).increment();
+            writeSequence.increment();
+        } finally {
+            counterLock.readLock().unlock();
+        }
+    }
+
+    public void itemRemoved(LibraryItemType type, LibraryItemStatus status) {
+        counterLock.readLock().lock();
+        try {
+            typeCounts.get(type).decrement();
+            statusCounts.get(status).decrement();
+            writeSequence.increment();
+        } finally {
+            counterLock.readLock().unlock();
+        }
+    }
+
+    public void statusChanged(LibraryItemStatus from, LibraryItemStatus to) {
+        if (from == to) {
+            return;
+        }
+        counterLock.readLock().lock();
+        try {
+            statusCounts.get(from).decrement();
+            statusCounts.get(to).increment();
+            writeSequence.increment();
+        } finally {
+            counterLock.readLock().unlock();
+        }
+    }
+
+    public long getCount(LibraryItemStatus status) {
+        return statusCounts.get(status).sum();
+    }
+
+    public long getCount(LibraryItemType type) {
+        return typeCounts.get(type).sum();
+    }
+
+    public long getTotalItems() {
+        long total = 0;
+        for (LongAdder counter : typeCounts.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    // The overdue count only refreshes on reconcile while borrowed moves live, so it is capped at the
+    // current borrowed count to keep "on time" (borrowed - overdue) from going negative between rounds.
+    public long getOverdueCount() {
+        return Math.max(0, Math.min(overdueCount, getCount(LibraryItemStatus.BORROWED)));
+    }
+
+    public long getReconciliationCount() { return reconciliations.sum(); }
+    public long getSkippedReconciliationCount() { return skippedReconciliations.sum(); }
+    public long getDriftCorrectionCount() { return driftCorrections.sum(); }
+
+    public LibraryStatistics toStatistics() {
+        Map<LibraryItemStatus, Long> statuses = new EnumMap<>(LibraryItemStatus.class);
+        statusCounts.forEach((status, counter) -> statuses.put(status, counter.sum()));
+        Map<LibraryItemType, Long> types = new EnumMap<>(LibraryItemType.class);
+        typeCounts.forEach((type, counter) -> types.put(type, counter.sum()));
+        long overdue = Math.max(0, Math.min(overdueCount, statuses.get(LibraryItemStatus.BORROWED)));
+        return new LibraryStatistics(statuses, types, overdue);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,403 @@
+package library.threads.dispatchers;
+
+import library.controllers.CommandLineController;
+import library.database.util.DBUtil;
+import library.models.Library;
+import library.models.LibraryRequest;
+import library.models.LibraryResult;
+import library.models.enums.DispatchMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RequestDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(RequestDispatcher.class);
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final BlockingQueue<LibraryRequest> requestQueue;
+    private final BlockingQueue<LibraryResult> resultQueue;
+    private final CommandLineController cli;
+    private final Library library;
+    private final int workerCount;
+    private final DispatchMode mode;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder droppedResults = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder groupCommits = new LongAdder();
+    private final LongAdder groupedRequests = new LongAdder();
+    private int groupCommitMaxSize = 1;
+    private long groupCommitMaxWaitNanos;
+    private int laneCapacity = 16;
+    private volatile boolean running;
+    private volatile boolean routing;
+    private List<BlockingQueue<LibraryRequest>> lanes;
+    private ExecutorService virtualThreadExecutor;
+    private Semaphore permits;
+
+    public RequestDispatcher(BlockingQueue<LibraryRequest> requestQueue,
+                             BlockingQueue<LibraryResult> resultQueue,
+                             CommandLineController cli,
+                             Library library,
+                             int workerCount,
+                             DispatchMode mode) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+        }
+        this.requestQueue = requestQueue;
+        this.resultQueue = resultQueue;
+        this.cli = cli;
+        this.library = library;
+        this.workerCount = workerCount;
+        this.mode = mode;
+    }
+
+    // Loan writes (BORROW, RETURN, UPDATE_STATUS) picked up by a platform worker or lane are held for up
+    // to maxWaitMillis so that up to maxSize of them can share one transaction.
+    public synchronized void enableGroupCommit(int maxSize, long maxWaitMillis) {
+        if (running) {
+            throw new IllegalStateException("Group commit must be configured before the dispatcher starts");
+        }
+        this.groupCommitMaxSize = Math.max(1, maxSize);
+        this.groupCommitMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMillis));
+    }
+
+    // Lanes are kept shallow: once one is full the router blocks, so the backlog stays in the request
+    // queue where its capacity, admission policy and class-of-service ordering still apply.
+    public synchronized void setLaneCapacity(int capacity) {
+        if (running) {
+            throw new IllegalStateException("Lane capacity must be configured before the dispatcher starts");
+        }
+        this.laneCapacity = Math.max(1, capacity);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+
+        if (mode == DispatchMode.VIRTUAL) {
+            virtualThreadExecutor = newVirtualThreadExecutor();
+            if (virtualThreadExecutor == null) {
+                logger.warn("Virtual threads are not available on this JDK, falling back to {} platform workers",
+                        workerCount);
+            }
+        }
+
+        if (mode == DispatchMode.PARTITIONED) {
+            lanes = new ArrayList<>(workerCount);
+            routing = true;
+            for (int i = 0; i < workerCount; i++) {
+                BlockingQueue<LibraryRequest> lane = new ArrayBlockingQueue<>(laneCapacity);
+                lanes.add(lane);
+                threads.add(startThread("request-lane-" + (i + 1), () -> runLane(lane)));
+            }
+            threads.add(startThread("request-router", this::routeToLanes));
+            logger.info("Request dispatcher started with {} ordered lanes of capacity {}", workerCount, laneCapacity);
+        } else if (virtualThreadExecutor != null) {
+            permits = new Semaphore(workerCount);
+            threads.add(startThread("request-dispatcher", this::dispatchToVirtualThreads));
+            logger.info("Request dispatcher started with virtual threads, max {} in flight", workerCount);
+        } else {
+            for (int i = 1; i <= workerCount; i++) {
+                threads.add(startThread("request-worker-" + i, this::runWorker));
+            }
+            logger.info("Request dispatcher started with {} platform workers", workerCount);
+        }
+    }
+
+    private Thread startThread(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.start();
+        return thread;
+    }
+
+    private void runWorker() {
+        while (running || !requestQueue.isEmpty()) {
+            try {
+                LibraryRequest request = requestQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (request != null) {
+                    handle(requestQueue, request);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void routeToLanes() {
+        try {
+            while (running || !requestQueue.isEmpty()) {
+                LibraryRequest request = requestQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (request != null) {
+                    lanes.get(laneFor(request)).put(request);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            routing = false;
+        }
+    }
+
+    private void runLane(BlockingQueue<LibraryRequest> lane) {
+        while (routing || !lane.isEmpty()) {
+            try {
+                LibraryRequest request = lane.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (request != null) {
+                    handle(lane, request);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    // Requests for the same item always land on the same single-consumer lane, so they run in order.
+    private int laneFor(LibraryRequest request) {
+        Integer itemId = request.getItemId();
+        if (itemId == null) {
+            return Math.floorMod(roundRobin.getAndIncrement(), workerCount);
+        }
+        return Math.floorMod(itemId * 0x9E3779B9, workerCount);
+    }
+
+    private void dispatchToVirtualThreads() {
+        while (running || !requestQueue.isEmpty()) {
+            try {
+                permits.acquire();
+                LibraryRequest request = requestQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (request == null) {
+                    permits.release();
+                    continue;
+                }
+
+                virtualThreadExecutor.execute(() -> {
+                    try {
+                        process(request);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void handle(BlockingQueue<LibraryRequest> source, LibraryRequest request) {
+        if (groupCommitMaxSize <= 1 || !request.getRequestType().isLoanWrite()) {
+            process(request);
+            return;
+        }
+
+        List<LibraryRequest> group = new ArrayList<>(groupCommitMaxSize);
+        group.add(request);
+        LibraryRequest held = null;
+        long collectUntil = System.nanoTime() + groupCommitMaxWaitNanos;
+
+        try {
+            while (group.size() < groupCommitMaxSize) {
+                long remaining = collectUntil - System.nanoTime();
+                LibraryRequest next = remaining > 0 ? source.poll(remaining, TimeUnit.NANOSECONDS) : source.poll();
+                if (next == null) {
+                    break;
+                }
+                // Anything else ends the group so that requests on a lane keep their order.
+                if (!next.getRequestType().isLoanWrite()) {
+                    held = next;
+                    break;
+                }
+                group.add(next);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        processGroup(group);
+        if (held != null) {
+            process(held);
+        }
+    }
+
+    private void processGroup(List<LibraryRequest> group) {
+        List<LibraryRequest> live = new ArrayList<>(group.size());
+        for (LibraryRequest request : group) {
+            if (request.isExpired()) {
+                expire(request);
+            } else {
+                live.add(request);
+            }
+        }
+
+        if (live.size() <= 1) {
+            live.forEach(this::process);
+            return;
+        }
+
+        inFlight.addAndGet(live.size());
+        live.stream().filter(LibraryRequest::hasDeadline).mapToLong(LibraryRequest::getDeadlineNanos)
+                .reduce((a, b) -> a - b < 0 ? a : b)
+                .ifPresent(DBUtil::setQueryDeadline);
+        try {
+            List<LibraryResult> results = cli.processLoanRequests(live, library);
+            for (LibraryRequest request : live) {
+                if (request.isExpired()) {
+                    timedOut.increment();
+                }
+            }
+            results.forEach(this::publishResult);
+            processed.add(live.size());
+            groupCommits.increment();
+            groupedRequests.add(live.size());
+        } catch (Exception e) {
+            failed.add(live.size());
+            logger.error("Error processing group of {} loan requests: {}", live.size(), e.getMessage());
+            live.forEach(request -> publishResult(new LibraryResult(false, "Error: " + e.getMessage())));
+        } finally {
+            DBUtil.clearQueryDeadline();
+            inFlight.addAndGet(-live.size());
+        }
+    }
+
+    private void expire(LibraryRequest request) {
+        expired.increment();
+        logger.warn("Dropping expired {} request after {} ms in queue", request.getRequestType(), request.getAgeMillis());
+        publishResult(new LibraryResult(false, String.format("Request %s timed out after %d ms in queue",
+                request.getRequestType(), request.getAgeMillis())));
+    }
+
+    private void process(LibraryRequest request) {
+        if (request.isExpired()) {
+            expire(request);
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        if (request.hasDeadline()) {
+            DBUtil.setQueryDeadline(request.getDeadlineNanos());
+        }
+        try {
+            LibraryResult result = cli.processRequest(request, library);
+            if (request.isExpired()) {
+                timedOut.increment();
+            }
+            publishResult(result);
+            processed.increment();
+        } catch (Exception e) {
+            failed.increment();
+            logger.error("Error processing {} request: {}", request.getRequestType(), e.getMessage());
+            publishResult(new LibraryResult(false, "Error: " + e.getMessage()));
+        } finally {
+            DBUtil.clearQueryDeadline();
+            inFlight.decrementAndGet();
+        }
+    }
+
+    // Workers never block on a full result queue; the oldest unread result is dropped instead.
+    public void publishResult(LibraryResult result) {
+        while (!resultQueue.offer(result)) {
+            if (resultQueue.poll() != null) {
+                droppedResults.increment();
+                logger.warn("Result queue is full, dropped the oldest result");
+            }
+        }
+    }
+
+    public void shutdown() {
+        List<Thread> toJoin;
+        synchronized (this) {
+            running = false;
+            toJoin = new ArrayList<>(threads);
+            threads.clear();
+        }
+
+        try {
+            for (Thread thread : toJoin) {
+                thread.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+            }
+            if (virtualThreadExecutor != null) {
+                virtualThreadExecutor.shutdown();
+                virtualThreadExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            toJoin.forEach(Thread::interrupt);
+            if (virtualThreadExecutor != null) {
+                virtualThreadExecutor.shutdownNow();
+            }
+        }
+
+        logger.info("Request dispatcher stopped - {}", this);
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    public boolean isUsingVirtualThreads() { return virtualThreadExecutor != null; }
+    public int getQueueDepth() {
+        int depth = requestQueue.size();
+        if (lanes != null) {
+            for (BlockingQueue<LibraryRequest> lane : lanes) {
+                depth += lane.size();
+            }
+        }
+        return depth;
+    }
+
+    public int[] getLaneDepths() {
+        if (lanes == null) {
+            return new int[0];
+        }
+        return lanes.stream().mapToInt(BlockingQueue::size).toArray();
+    }
+
+    public int getInFlightCount() { return inFlight.get(); }
+    public long getProcessedCount() { return processed.sum(); }
+    public long getFailedCount() { return failed.sum(); }
+    public long getDroppedResultCount() { return droppedResults.sum(); }
+    public long getExpiredCount() { return expired.sum(); }
+    public long getTimedOutCount() { return timedOut.sum(); }
+    public long getGroupCommitCount() { return groupCommits.sum(); }
+
+    public double getAverageGroupSize() {
+        long commits = getGroupCommitCount();
+        return commits == 0 ? 0.0 : (double) groupedRequests.sum() / commits;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("mode: %s, workers: %d, queue depth: %d, in flight: %d, processed: %d, failed: %d, expired: %d, timed out: %d, dropped results: %d, group commits: %d (avg size %.1f)",
+                lanes != null ? "PARTITIONED" : isUsingVirtualThreads() ? "VIRTUAL" : "PLATFORM", workerCount,
+                getQueueDepth(), getInFlightCount(), getProcessedCount(), getFailedCount(),
+                getExpiredCount(), getTimedOutCount(), getDroppedResultCount(),
+                getGroupCommitCount(), getAverageGroupSize());
+    }
+}
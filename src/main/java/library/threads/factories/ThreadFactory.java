@@ -2,7 +2,6 @@ package library.threads.factories;
 
 import library.Main;
 import library.controllers.CommandLineController;
-import library.models.Library;
 import library.models.LibraryRequest;
 import library.models.LibraryResult;
 import library.models.enums.ThreadType;
@@ -37,8 +36,11 @@ public class ThreadFactory {
                             stopAllThreads();
                             break;
                         }
-                        Main.getRequestQueue().add(request);
-                        System.out.println("✅ Request submitted to queue!");
+                        if (Main.getRequestQueue().admit(request)) {
+                            System.out.println("✅ Request submitted to queue!");
+                        } else {
+                            System.out.println("❌ System is overloaded, request rejected. Please try again later.");
+                        }
                     }
 
                     Thread.sleep(100);
@@ -58,52 +60,14 @@ public class ThreadFactory {
     }
 
 
-    public static Thread createResultHandlerThread(
-            CommandLineController cli,
-            Library library,
-            CountDownLatch countDownLatch,
-            BlockingQueue<LibraryRequest> requestQueue) {
-
-        Runnable resultHandlerTask = () -> {
-
-            while (running || !requestQueue.isEmpty()) {
-                try {
-                    LibraryRequest request = requestQueue.poll();
-                    if (request != null) {
-                        LibraryResult result = cli.processRequest(request, library);
-                        Main.getResultQueue().add(result);
-                    }
-
-                    Thread.sleep(100);
-
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                } catch (Exception e) {
-                    System.err.println("❌ Error in handler thread: " + e.getMessage());
-                    LibraryResult errorResult = new LibraryResult(false, "Error: " + e.getMessage());
-                    Main.getResultQueue().add(errorResult);
-                }
-            }
-
-            countDownLatch.countDown();
-        };
-
-        return new Thread(resultHandlerTask);
-    }
-
-
     public static Thread createThread(
             ThreadType type,
             CommandLineController cli,
-            Library library,
             CountDownLatch countDownLatch,
-            BlockingQueue<LibraryRequest> requestQueue,
             BlockingQueue<LibraryResult> resultQueue) {
 
         return switch (type) {
             case REQUEST_HANDLER -> createRequestHandlerThread(cli, countDownLatch, resultQueue);
-            case RESULT_HANDLER -> createResultHandlerThread(cli, library, countDownLatch, requestQueue);
         };
     }
 
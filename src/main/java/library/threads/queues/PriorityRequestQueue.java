@@ -0,0 +1,455 @@
+package library.threads.queues;
+
+import library.models.LibraryRequest;
+import library.models.enums.AdmissionPolicy;
+import library.models.enums.ServiceClass;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class PriorityRequestQueue extends AbstractQueue<LibraryRequest> implements BlockingQueue<LibraryRequest> {
+    private final Map<ServiceClass, ArrayDeque<QueuedRequest>> queues = new EnumMap<>(ServiceClass.class);
+    private final Map<ServiceClass, Integer> currentWeights = new EnumMap<>(ServiceClass.class);
+    private final Map<ServiceClass, LongAdder> dequeued = new EnumMap<>(ServiceClass.class);
+    private final Map<ServiceClass, LongAdder> totalWaitNanos = new EnumMap<>(ServiceClass.class);
+    private final Map<ServiceClass, LongAccumulator> maxWaitNanos = new EnumMap<>(ServiceClass.class);
+    private final LongAdder starvationPromotions = new LongAdder();
+    private final LongAdder queueFullEvents = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    private final int capacity;
+    private final AdmissionPolicy admissionPolicy;
+    private final long requestTimeoutMillis;
+    private volatile Consumer<LibraryRequest> shedHandler = request -> { };
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int count;
+    private int picksSincePromotion = Integer.MAX_VALUE;
+
+    public PriorityRequestQueue() {
+        this(Integer.MAX_VALUE, AdmissionPolicy.BLOCK, 0);
+    }
+
+    public PriorityRequestQueue(int capacity, AdmissionPolicy admissionPolicy, long requestTimeoutMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.admissionPolicy = admissionPolicy;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+        for (ServiceClass serviceClass : ServiceClass.values()) {
+            queues.put(serviceClass, new ArrayDeque<>());
+            currentWeights.put(serviceClass, 0);
+            dequeued.put(serviceClass, new LongAdder());
+            totalWaitNanos.put(serviceClass, new LongAdder());
+            maxWaitNanos.put(serviceClass, new LongAccumulator(Math::max, 0));
+        }
+    }
+
+    public void setShedHandler(Consumer<LibraryRequest> shedHandler) {
+        this.shedHandler = shedHandler;
+    }
+
+    public boolean admit(LibraryRequest request) throws InterruptedException {
+        if (admissionPolicy == AdmissionPolicy.BLOCK) {
+            put(request);
+            return true;
+        }
+
+        LibraryRequest victim;
+        lock.lock();
+        try {
+            if (count < capacity) {
+                enqueue(request);
+                return true;
+            }
+
+            queueFullEvents.increment();
+            victim = admissionPolicy == AdmissionPolicy.SHED_LOWEST_PRIORITY ? shedBelow(request) : null;
+            if (victim == null) {
+                rejected.increment();
+                return false;
+            }
+            enqueue(request);
+        } finally {
+            lock.unlock();
+        }
+
+        shedHandler.accept(victim);
+        return true;
+    }
+
+    // Drops the newest request of the lowest class that ranks below the incoming one.
+    private LibraryRequest shedBelow(LibraryRequest incoming) {
+        ServiceClass incomingClass = incoming.getRequestType().getServiceClass();
+        ServiceClass[] classes = ServiceClass.values();
+
+        for (int i = classes.length - 1; i > incomingClass.ordinal(); i--) {
+            QueuedRequest victim = queues.get(classes[i]).pollLast();
+            if (victim != null) {
+                count--;
+                shed.increment();
+                return victim.request;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean offer(LibraryRequest request) {
+        if (request == null) {
+            throw new NullPointerException();
+        }
+
+        lock.lock();
+        try {
+            if (count >= capacity) {
+                queueFullEvents.increment();
+                return false;
+            }
+            enqueue(request);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(LibraryRequest request) throws InterruptedException {
+        if (request == null) {
+            throw new NullPointerException();
+        }
+
+        lock.lockInterruptibly();
+        try {
+            if (count >= capacity) {
+                queueFullEvents.increment();
+                while (count >= capacity) {
+                    notFull.await();
+                }
+            }
+            enqueue(request);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(LibraryRequest request, long timeout, TimeUnit unit) throws InterruptedException {
+        if (request == null) {
+            throw new NullPointerException();
+        }
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            if (count >= capacity) {
+                queueFullEvents.increment();
+                while (count >= capacity) {
+                    if (nanos <= 0) {
+                        return false;
+                    }
+                    nanos = notFull.awaitNanos(nanos);
+                }
+            }
+            enqueue(request);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(LibraryRequest request) {
+        request.markEnqueued(requestTimeoutMillis);
+        queues.get(request.getRequestType().getServiceClass()).addLast(new QueuedRequest(request, request.getEnqueuedAtNanos()));
+        count++;
+        notEmpty.signal();
+    }
+
+    @Override
+    public LibraryRequest poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public LibraryRequest take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public LibraryRequest poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public LibraryRequest peek() {
+        lock.lock();
+        try {
+            if (count == 0) {
+                return null;
+            }
+            return queues.get(selectClass(System.nanoTime(), false)).peekFirst().request;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super LibraryRequest> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super LibraryRequest> target, int maxElements) {
+        lock.lock();
+        try {
+            int drained = 0;
+            while (count > 0 && drained < maxElements) {
+                target.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Iterator<LibraryRequest> iterator() {
+        lock.lock();
+        try {
+            List<LibraryRequest> snapshot = new ArrayList<>(count);
+            queues.values().forEach(queue -> queue.forEach(queued -> snapshot.add(queued.request)));
+            return Collections.unmodifiableList(snapshot).iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The iterator is a read-only snapshot, so removal goes straight to the class deques instead of
+    // through AbstractCollection's iterator-based defaults.
+    @Override
+    public boolean remove(Object request) {
+        return removeMatching(queued -> queued.equals(request), true);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> requests) {
+        return removeMatching(requests::contains, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> requests) {
+        return removeMatching(queued -> !requests.contains(queued), false);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super LibraryRequest> filter) {
+        return removeMatching(filter, false);
+    }
+
+    private boolean removeMatching(Predicate<? super LibraryRequest> filter, boolean firstOnly) {
+        lock.lock();
+        try {
+            int removed = 0;
+            for (ArrayDeque<QueuedRequest> queue : queues.values()) {
+                Iterator<QueuedRequest> iterator = queue.iterator();
+                while (iterator.hasNext() && !(firstOnly && removed > 0)) {
+                    if (filter.test(iterator.next().request)) {
+                        iterator.remove();
+                        removed++;
+                    }
+                }
+            }
+            if (removed > 0) {
+                count -= removed;
+                notFull.signalAll();
+            }
+            return removed > 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private LibraryRequest dequeue() {
+        long now = System.nanoTime();
+        ServiceClass serviceClass = selectClass(now, true);
+        QueuedRequest queued = queues.get(serviceClass).pollFirst();
+        count--;
+        notFull.signal();
+
+        long waited = now - queued.enqueuedAt;
+        dequeued.get(serviceClass).increment();
+        totalWaitNanos.get(serviceClass).add(waited);
+        maxWaitNanos.get(serviceClass).accumulate(waited);
+        return queued.request;
+    }
+
+    // Smooth weighted round robin across non-empty classes. A class head that has waited past its
+    // starvation threshold is promoted, but at most once per weighted round: an aged backlog then gets
+    // one extra pick per round instead of taking over the queue and inverting the class priorities.
+    private ServiceClass selectClass(long now, boolean advance) {
+        ServiceClass starved = null;
+        long worstOverdue = 0;
+        int totalWeight = 0;
+
+        for (ServiceClass serviceClass : ServiceClass.values()) {
+            QueuedRequest head = queues.get(serviceClass).peekFirst();
+            if (head == null) {
+                continue;
+            }
+            totalWeight += serviceClass.getWeight();
+
+            long overdue = now - head.enqueuedAt
+                    - TimeUnit.MILLISECONDS.toNanos(serviceClass.getStarvationThresholdMillis());
+            if (overdue > worstOverdue) {
+                worstOverdue = overdue;
+                starved = serviceClass;
+            }
+        }
+
+        if (starved != null && picksSincePromotion >= totalWeight) {
+            if (advance) {
+                starvationPromotions.increment();
+                picksSincePromotion = 0;
+            }
+            return starved;
+        }
+
+        ServiceClass selected = null;
+        int best = Integer.MIN_VALUE;
+        Map<ServiceClass, Integer> weights = advance ? currentWeights : new EnumMap<>(currentWeights);
+
+        for (ServiceClass serviceClass : ServiceClass.values()) {
+            if (queues.get(serviceClass).isEmpty()) {
+                continue;
+            }
+            int weight = weights.get(serviceClass) + serviceClass.getWeight();
+            weights.put(serviceClass, weight);
+            if (weight > best) {
+                best = weight;
+                selected = serviceClass;
+            }
+        }
+
+        weights.put(selected, weights.get(selected) - totalWeight);
+        if (advance && picksSincePromotion < Integer.MAX_VALUE) {
+            picksSincePromotion++;
+        }
+        return selected;
+    }
+
+    public int size(ServiceClass serviceClass) {
+        lock.lock();
+        try {
+            return queues.get(serviceClass).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDequeuedCount(ServiceClass serviceClass) {
+        return dequeued.get(serviceClass).sum();
+    }
+
+    public double getAverageWaitMillis(ServiceClass serviceClass) {
+        long served = getDequeuedCount(serviceClass);
+        return served == 0 ? 0.0 : totalWaitNanos.get(serviceClass).sum() / (served * 1_000_000.0);
+    }
+
+    public double getMaxWaitMillis(ServiceClass serviceClass) {
+        return maxWaitNanos.get(serviceClass).get() / 1_000_000.0;
+    }
+
+    public long getStarvationPromotionCount() {
+        return starvationPromotions.sum();
+    }
+
+    public long getQueueFullCount() { return queueFullEvents.sum(); }
+    public long getRejectedCount() { return rejected.sum(); }
+    public long getShedCount() { return shed.sum(); }
+
+    public String describeWaitTimes() {
+        StringBuilder description = new StringBuilder();
+        for (ServiceClass serviceClass : ServiceClass.values()) {
+            description.append(String.format("%s[served: %d, avg wait: %.1f ms, max wait: %.1f ms] ",
+                    serviceClass, getDequeuedCount(serviceClass),
+                    getAverageWaitMillis(serviceClass), getMaxWaitMillis(serviceClass)));
+        }
+        return description.append(String.format("starvation promotions: %d, queue full: %d, rejected: %d, shed: %d",
+                getStarvationPromotionCount(), getQueueFullCount(), getRejectedCount(), getShedCount())).toString();
+    }
+
+    private static final class QueuedRequest {
+        private final LibraryRequest request;
+        private final long enqueuedAt;
+
+        private QueuedRequest(LibraryRequest request, long enqueuedAt) {
+            this.request = request;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package library.models.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenericLinkedListTest {
+    // entry[0] is the sort key, entry[1] the input position, so stability can be checked.
+    private static final Comparator<int[]> BY_KEY = Comparator.comparingInt(entry -> entry[0]);
+    private static final int[] TAIL_MARKER = {Integer.MAX_VALUE, -1};
+
+    private static final List<BiConsumer<GenericLinkedList<int[]>, Comparator<int[]>>> SORTS =
+            List.of(GenericLinkedList::sort, GenericLinkedList::parallelSort);
+
+    private static GenericLinkedList<int[]> listOf(int... keys) {
+        GenericLinkedList<int[]> list = new GenericLinkedList<>();
+        for (int i = 0; i < keys.length; i++) {
+            list.add(new int[]{keys[i], i});
+        }
+        return list;
+    }
+
+    private static void assertStablySortedWithTail(GenericLinkedList<int[]> list, int expectedSize) {
+        List<int[]> sorted = list.toList();
+        assertEquals(expectedSize, sorted.size());
+        for (int i = 1; i < sorted.size(); i++) {
+            int[] previous = sorted.get(i - 1);
+            int[] current = sorted.get(i);
+            assertTrue(previous[0] < current[0] || (previous[0] == current[0] && previous[1] < current[1]),
+                    "out of order at index " + i);
+        }
+
+        // add() appends after the tail, so a stale tail would lose or misplace the marker.
+        list.add(TAIL_MARKER);
+        List<int[]> extended = list.toList();
+        assertEquals(expectedSize + 1, extended.size());
+        assertSame(TAIL_MARKER, extended.get(expectedSize));
+    }
+
+    @Test
+    void sortsEmptyList() {
+        for (var sort : SORTS) {
+            GenericLinkedList<int[]> list = listOf();
+            sort.accept(list, BY_KEY);
+            assertTrue(list.isEmpty());
+            assertStablySortedWithTail(list, 0);
+        }
+    }
+
+    @Test
+    void sortsSingleElement() {
+        for (var sort : SORTS) {
+            GenericLinkedList<int[]> list = listOf(42);
+            sort.accept(list, BY_KEY);
+            assertStablySortedWithTail(list, 1);
+        }
+    }
+
+    @Test
+    void keepsInputOrderOfEqualKeys() {
+        for (var sort : SORTS) {
+            GenericLinkedList<int[]> list = listOf(3, 1, 3, 2, 1, 3, 2, 1);
+            sort.accept(list, BY_KEY);
+            assertStablySortedWithTail(list, 8);
+        }
+    }
+
+    @Test
+    void leavesPresortedInputUnchanged() {
+        for (var sort : SORTS) {
+            GenericLinkedList<int[]> list = listOf(1, 2, 2, 3, 5, 8, 13);
+            List<int[]> before = list.toList();
+            sort.accept(list, BY_KEY);
+            List<int[]> after = list.toList();
+            for (int i = 0; i < before.size(); i++) {
+                assertSame(before.get(i), after.get(i));
+            }
+            assertStablySortedWithTail(list, 7);
+        }
+    }
+
+    @Test
+    void sortsReversedInput() {
+        for (var sort : SORTS) {
+            GenericLinkedList<int[]> list = listOf(9, 7, 5, 3, 1);
+            sort.accept(list, BY_KEY);
+            assertEquals(1, list.toList().get(0)[0]);
+            assertStablySortedWithTail(list, 5);
+        }
+    }
+
+    // Large enough to take the ForkJoin path of parallelSort, with many duplicate keys across segments.
+    @Test
+    void sortsLargeInputWithDuplicates() {
+        int size = 50_000;
+        Random random = new Random(7);
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(500);
+        }
+
+        for (var sort : SORTS) {
+            GenericLinkedList<int[]> list = listOf(keys);
+            sort.accept(list, BY_KEY);
+            assertStablySortedWithTail(list, size);
+        }
+    }
+
+    @Test
+    void sortedListStillSupportsRemovalAtTheTail() {
+        GenericLinkedList<int[]> list = listOf(2, 1);
+        list.sort(BY_KEY);
+        int[] last = list.toList().get(1);
+
+        assertTrue(list.remove(last));
+        list.add(TAIL_MARKER);
+
+        List<int[]> contents = list.toList();
+        assertEquals(2, contents.size());
+        assertSame(TAIL_MARKER, contents.get(1));
+    }
+
+    private static GenericLinkedList<Integer> rangeList(int size) {
+        GenericLinkedList<Integer> list = new GenericLinkedList<>();
+        IntStream.range(0, size).forEach(list::add);
+        return list;
+    }
+
+    // Splits recursively down to the smallest spliterators and collects them in encounter order.
+    private static void splitFully(Spliterator<Integer> spliterator, List<Integer> out) {
+        long size = spliterator.estimateSize();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            spliterator.forEachRemaining(out::add);
+            return;
+        }
+        assertTrue(prefix.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(size, prefix.estimateSize() + spliterator.estimateSize());
+        assertTrue(Math.abs(prefix.estimateSize() - spliterator.estimateSize()) <= 1, "unbalanced split");
+        splitFully(prefix, out);
+        splitFully(spliterator, out);
+    }
+
+    @Test
+    void spliteratorIsOrderedAndExactlySized() {
+        GenericLinkedList<Integer> list = rangeList(10);
+        Spliterator<Integer> spliterator = list.spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(10, spliterator.getExactSizeIfKnown());
+
+        List<Integer> seen = new ArrayList<>();
+        assertTrue(spliterator.tryAdvance(seen::add));
+        assertEquals(9, spliterator.estimateSize());
+        spliterator.forEachRemaining(seen::add);
+        assertEquals(0, spliterator.estimateSize());
+        assertFalse(spliterator.tryAdvance(seen::add));
+        assertEquals(list.toList(), seen);
+    }
+
+    @Test
+    void smallListIsNotSplit() {
+        assertNull(rangeList(100).spliterator().trySplit());
+    }
+
+    @Test
+    void splitsPreserveOrderAndSize() {
+        GenericLinkedList<Integer> list = rangeList(10_000);
+        List<Integer> collected = new ArrayList<>();
+
+        splitFully(list.spliterator(), collected);
+
+        assertEquals(list.toList(), collected);
+    }
+
+    @Test
+    void parallelStreamKeepsEncounterOrder() {
+        GenericLinkedList<Integer> list = rangeList(10_000);
+
+        assertEquals(list.toList(), list.parallelStream().toList());
+        assertEquals(list.getSize(), list.parallelStream().count());
+    }
+}
@@ -0,0 +1,82 @@
+package library.models.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedListViewTest {
+
+    private static GenericLinkedList<Integer> rangeList(int size) {
+        GenericLinkedList<Integer> list = new GenericLinkedList<>();
+        IntStream.range(0, size).forEach(list::add);
+        return list;
+    }
+
+    @Test
+    void filterDropsSizedButKeepsOrder() {
+        Spliterator<Integer> spliterator = rangeList(10).view().filter(value -> value % 2 == 0).spliterator();
+
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(-1, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    void mapKeepsSizeAndOrder() {
+        Spliterator<String> spliterator = rangeList(10).view().map(String::valueOf).spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(10, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    void stepsRunOnlyWhenTraversed() {
+        AtomicInteger calls = new AtomicInteger();
+        LinkedListView<Integer> view = rangeList(5).view().map(value -> {
+            calls.incrementAndGet();
+            return value * 10;
+        });
+        assertEquals(0, calls.get());
+
+        assertEquals(List.of(0, 10, 20, 30, 40), view.toList());
+        assertEquals(5, calls.get());
+    }
+
+    @Test
+    void chainedStepsApplyInOrder() {
+        LinkedListView<String> view = rangeList(10).view()
+                .filter(value -> value % 3 == 0)
+                .map(value -> value * 2)
+                .filter(value -> value > 0)
+                .map(value -> "#" + value);
+
+        assertEquals(List.of("#6", "#12", "#18"), view.toList());
+        assertEquals(List.of("#6", "#12", "#18"), view.toLinkedList().toList());
+    }
+
+    @Test
+    void viewSeesLaterChangesToTheList() {
+        GenericLinkedList<Integer> list = rangeList(3);
+        LinkedListView<Integer> view = list.view().filter(value -> value > 0);
+        assertEquals(List.of(1, 2), view.toList());
+
+        list.add(3);
+        list.remove(1);
+
+        assertEquals(List.of(2, 3), view.toList());
+    }
+
+    @Test
+    void parallelFilteredStreamKeepsEncounterOrder() {
+        GenericLinkedList<Integer> list = rangeList(10_000);
+        List<Integer> expected = IntStream.range(0, 10_000).filter(value -> value % 7 == 0).boxed().toList();
+
+        assertEquals(expected, list.view().filter(value -> value % 7 == 0).parallelStream().toList());
+    }
+}
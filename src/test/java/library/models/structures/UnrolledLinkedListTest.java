@@ -0,0 +1,145 @@
+package library.models.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnrolledLinkedListTest {
+    // Small chunks so a handful of elements already spans several of them.
+    private static final int CHUNK_CAPACITY = 4;
+    private static final Integer TAIL_MARKER = Integer.MAX_VALUE;
+
+    private static UnrolledLinkedList<Integer> listOf(int count) {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(CHUNK_CAPACITY);
+        for (int i = 0; i < count; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static List<Integer> iterate(UnrolledLinkedList<Integer> list) {
+        List<Integer> contents = new ArrayList<>();
+        list.forEach(contents::add);
+        return contents;
+    }
+
+    private static void assertContentsWithTail(UnrolledLinkedList<Integer> list, List<Integer> expected) {
+        assertEquals(expected, list.toList());
+        assertEquals(expected, iterate(list));
+        assertEquals(expected.size(), list.getSize());
+
+        // add() appends to the tail chunk, so a stale tail would lose or misplace the marker.
+        list.add(TAIL_MARKER);
+        List<Integer> extended = list.toList();
+        assertEquals(expected.size() + 1, extended.size());
+        assertSame(TAIL_MARKER, extended.get(expected.size()));
+        assertEquals(extended, iterate(list));
+    }
+
+    @Test
+    void rejectsChunkCapacityBelowTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<Integer>(1));
+    }
+
+    @Test
+    void removesFirstAndLastElementOfAChunk() {
+        // Chunks: [0 1 2 3] [4 5 6 7] [8 9]
+        UnrolledLinkedList<Integer> list = listOf(10);
+
+        assertTrue(list.remove(3));
+        assertTrue(list.remove(4));
+        assertTrue(list.remove(0));
+        assertFalse(list.remove(42));
+
+        assertContentsWithTail(list, List.of(1, 2, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    void mergesHalfEmptyChunkWithItsSuccessor() {
+        // Chunks: [0 1 2 3] [4 5 6 7] [8 9]; emptying the middle chunk down to [7] pulls [8 9] into it,
+        // which also makes the merged chunk the new tail.
+        UnrolledLinkedList<Integer> list = listOf(10);
+
+        list.remove(4);
+        list.remove(5);
+        list.remove(6);
+
+        assertContentsWithTail(list, List.of(0, 1, 2, 3, 7, 8, 9));
+    }
+
+    @Test
+    void skipsMergeWhenSuccessorDoesNotFit() {
+        // Chunks: [0 1 2 3] [4 5 6 7] [8 9 10 11]; the first chunk drops to one element but the
+        // full successor cannot be pulled into it.
+        UnrolledLinkedList<Integer> list = listOf(12);
+
+        list.remove(0);
+        list.remove(1);
+        list.remove(2);
+
+        assertContentsWithTail(list, List.of(3, 4, 5, 6, 7, 8, 9, 10, 11));
+    }
+
+    @Test
+    void movesTailBackWhenLastChunkIsEmptied() {
+        // Chunks: [0 1 2 3] [4]
+        UnrolledLinkedList<Integer> list = listOf(5);
+
+        assertTrue(list.remove(4));
+
+        assertContentsWithTail(list, List.of(0, 1, 2, 3));
+    }
+
+    @Test
+    void acceptsNewElementsAfterEveryElementWasRemoved() {
+        UnrolledLinkedList<Integer> list = listOf(9);
+        for (int i = 8; i >= 0; i--) {
+            assertTrue(list.remove(i));
+        }
+
+        assertTrue(list.isEmpty());
+        assertContentsWithTail(list, List.of());
+    }
+
+    @Test
+    void emptiedListSortsIteratesAndCopiesAsEmpty() {
+        UnrolledLinkedList<Integer> list = listOf(6);
+        for (int i = 0; i < 6; i++) {
+            list.remove(i);
+        }
+
+        list.sort(Comparator.naturalOrder());
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toArray(new Integer[0]).length);
+
+        Integer[] padded = {7, 7};
+        assertSame(padded, list.toArray(padded));
+        assertNull(padded[0]);
+
+        Iterator<Integer> iterator = list.iterator();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void sortAfterRemovalsRefillsChunksAndKeepsTail() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(CHUNK_CAPACITY);
+        for (int key : new int[]{9, 3, 7, 1, 8, 2, 6, 0, 5, 4}) {
+            list.add(key);
+        }
+        list.remove(7);
+        list.remove(8);
+        list.remove(2);
+
+        list.sort(Comparator.naturalOrder());
+
+        assertArrayEquals(new Integer[]{0, 1, 3, 4, 5, 6, 9}, list.toArray(new Integer[0]));
+        assertContentsWithTail(list, List.of(0, 1, 3, 4, 5, 6, 9));
+    }
+}
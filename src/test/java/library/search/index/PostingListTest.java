@@ -0,0 +1,56 @@
+package library.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostingListTest {
+
+    private static PostingList of(int... ids) {
+        PostingList list = new PostingList();
+        for (int id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    @Test
+    void addKeepsIdsSortedAndUnique() {
+        PostingList list = of(7, 3, 9, 3, 1, 9);
+
+        assertArrayEquals(new int[]{1, 3, 7, 9}, list.toArray());
+        assertEquals(4, list.size());
+    }
+
+    @Test
+    void removeDropsOnlyThatId() {
+        PostingList list = of(1, 2, 3);
+        list.remove(2);
+        list.remove(42);
+
+        assertArrayEquals(new int[]{1, 3}, list.toArray());
+        assertFalse(list.contains(2));
+    }
+
+    @Test
+    void intersectKeepsIdsPresentInEveryList() {
+        int[] result = PostingList.intersect(new PostingList[]{of(1, 2, 3, 4, 5, 8), of(2, 4, 8, 10), of(4, 8, 9, 2)});
+
+        assertArrayEquals(new int[]{2, 4, 8}, result);
+    }
+
+    @Test
+    void intersectOfSingleListReturnsAllIds() {
+        assertArrayEquals(new int[]{5, 6}, PostingList.intersect(new PostingList[]{of(6, 5)}));
+    }
+
+    @Test
+    void intersectWithDisjointListsIsEmpty() {
+        assertEquals(0, PostingList.intersect(new PostingList[]{of(1, 3, 5), of(2, 4, 6)}).length);
+    }
+
+    @Test
+    void intersectWithEmptyListIsEmpty() {
+        assertEquals(0, PostingList.intersect(new PostingList[]{of(1, 2, 3), new PostingList()}).length);
+    }
+}
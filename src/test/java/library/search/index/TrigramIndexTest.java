@@ -0,0 +1,63 @@
+package library.search.index;
+
+import library.models.enums.SearchAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(3, "The Hobbit", "Tolkien");
+        index.put(1, "Dune", "Frank Herbert");
+        index.put(2, "Hobbies at Home", "Anna Bobbin");
+    }
+
+    @Test
+    void longKeywordIntersectsGramsAndVerifiesCandidates() {
+        assertEquals(List.of(3), index.search(SearchAlgorithm.SEARCH_BY_TITLE_EXACT, "Hobbit"));
+        assertEquals(List.of(2, 3), index.search(SearchAlgorithm.SEARCH_BY_TITLE_EXACT, "Hobb"));
+    }
+
+    @Test
+    void exactSearchIsCaseSensitive() {
+        assertEquals(List.of(), index.search(SearchAlgorithm.SEARCH_BY_TITLE_EXACT, "hobbit"));
+        assertEquals(List.of(3), index.search(SearchAlgorithm.SEARCH_BY_TITLE_IGNORE_CASE, "hobbit"));
+    }
+
+    @Test
+    void shortKeywordScansEveryDocumentInIdOrder() {
+        assertEquals(List.of(2, 3), index.search(SearchAlgorithm.SEARCH_BY_TITLE_IGNORE_CASE, "ho"));
+        assertEquals(List.of(1, 2, 3), index.search(SearchAlgorithm.SEARCH_BY_AUTHOR_IGNORE_CASE, "n"));
+        assertEquals(List.of(2), index.search(SearchAlgorithm.SEARCH_BY_AUTHOR_EXACT, "An"));
+    }
+
+    @Test
+    void repeatedGramsInKeywordStillMatch() {
+        index.put(4, "Aaaa", "Zed");
+
+        assertEquals(List.of(4), index.search(SearchAlgorithm.SEARCH_BY_TITLE_IGNORE_CASE, "aaaa"));
+    }
+
+    @Test
+    void fieldsAreIndexedSeparately() {
+        assertEquals(List.of(), index.search(SearchAlgorithm.SEARCH_BY_TITLE_IGNORE_CASE, "tolkien"));
+        assertEquals(List.of(3), index.search(SearchAlgorithm.SEARCH_BY_AUTHOR_IGNORE_CASE, "tolkien"));
+    }
+
+    @Test
+    void putReplacesAndRemoveDropsPostings() {
+        index.put(3, "Silmarillion", "Tolkien");
+        assertEquals(List.of(2), index.search(SearchAlgorithm.SEARCH_BY_TITLE_EXACT, "Hobb"));
+
+        index.remove(2);
+        assertEquals(List.of(), index.search(SearchAlgorithm.SEARCH_BY_TITLE_EXACT, "Hobb"));
+        assertEquals(2, index.size());
+    }
+}
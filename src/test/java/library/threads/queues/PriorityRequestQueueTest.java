@@ -0,0 +1,156 @@
+package library.threads.queues;
+
+import library.models.LibraryRequest;
+import library.models.enums.AdmissionPolicy;
+import library.models.enums.RequestType;
+import library.models.enums.ServiceClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityRequestQueueTest {
+
+    private static LibraryRequest bulk(int itemId) {
+        return new LibraryRequest(RequestType.DELETE, itemId);
+    }
+
+    private static LibraryRequest interactive(int itemId) {
+        return new LibraryRequest(RequestType.RETURN, itemId);
+    }
+
+    @Test
+    void requestsOfOneClassLeaveInArrivalOrder() {
+        PriorityRequestQueue queue = new PriorityRequestQueue();
+        for (int id = 1; id <= 5; id++) {
+            queue.offer(bulk(id));
+        }
+
+        for (int id = 1; id <= 5; id++) {
+            assertEquals(id, queue.poll().getItemId().intValue());
+        }
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void weightedRoundRobinFavoursInteractiveWithoutStarvingBulk() {
+        PriorityRequestQueue queue = new PriorityRequestQueue();
+        for (int id = 1; id <= 20; id++) {
+            queue.offer(bulk(id));
+            queue.offer(interactive(id));
+        }
+
+        int weights = ServiceClass.INTERACTIVE.getWeight() + ServiceClass.BULK.getWeight();
+        int interactiveServed = 0;
+        int bulkServed = 0;
+        for (int i = 0; i < weights * 2; i++) {
+            if (queue.poll().getRequestType().getServiceClass() == ServiceClass.INTERACTIVE) {
+                interactiveServed++;
+            } else {
+                bulkServed++;
+            }
+        }
+
+        assertEquals(ServiceClass.INTERACTIVE.getWeight() * 2, interactiveServed);
+        assertEquals(ServiceClass.BULK.getWeight() * 2, bulkServed);
+    }
+
+    @Test
+    void drainToFollowsTheSameSchedule() {
+        PriorityRequestQueue queue = new PriorityRequestQueue();
+        queue.offer(bulk(1));
+        queue.offer(interactive(2));
+
+        List<LibraryRequest> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained));
+        assertEquals(RequestType.RETURN, drained.get(0).getRequestType());
+        assertEquals(RequestType.DELETE, drained.get(1).getRequestType());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void offerFailsWhenFullAndRemoveFreesCapacity() {
+        PriorityRequestQueue queue = new PriorityRequestQueue(2, AdmissionPolicy.BLOCK, 0);
+        LibraryRequest first = bulk(1);
+        queue.offer(first);
+        queue.offer(bulk(2));
+
+        assertFalse(queue.offer(bulk(3)));
+        assertEquals(1, queue.getQueueFullCount());
+
+        assertTrue(queue.remove(first));
+        assertFalse(queue.remove(first));
+        assertEquals(1, queue.remainingCapacity());
+        assertTrue(queue.offer(bulk(3)));
+        assertEquals(2, queue.poll().getItemId().intValue());
+    }
+
+    @Test
+    void rejectPolicyRefusesRequestsOnceFull() throws InterruptedException {
+        PriorityRequestQueue queue = new PriorityRequestQueue(2, AdmissionPolicy.REJECT, 0);
+
+        assertTrue(queue.admit(bulk(1)));
+        assertTrue(queue.admit(bulk(2)));
+        assertFalse(queue.admit(interactive(3)));
+
+        assertEquals(1, queue.getRejectedCount());
+        assertEquals(0, queue.size(ServiceClass.INTERACTIVE));
+    }
+
+    @Test
+    void shedPolicyDropsNewestBulkRequestForInteractiveOne() throws InterruptedException {
+        PriorityRequestQueue queue = new PriorityRequestQueue(2, AdmissionPolicy.SHED_LOWEST_PRIORITY, 0);
+        List<LibraryRequest> dropped = new ArrayList<>();
+        queue.setShedHandler(dropped::add);
+        LibraryRequest newestBulk = bulk(2);
+        queue.admit(bulk(1));
+        queue.admit(newestBulk);
+
+        assertTrue(queue.admit(interactive(3)));
+
+        assertEquals(List.of(newestBulk), dropped);
+        assertEquals(1, queue.getShedCount());
+        assertEquals(1, queue.size(ServiceClass.BULK));
+        assertEquals(1, queue.size(ServiceClass.INTERACTIVE));
+    }
+
+    @Test
+    void shedPolicyRejectsWhenNothingRanksLower() throws InterruptedException {
+        PriorityRequestQueue queue = new PriorityRequestQueue(1, AdmissionPolicy.SHED_LOWEST_PRIORITY, 0);
+        List<LibraryRequest> dropped = new ArrayList<>();
+        queue.setShedHandler(dropped::add);
+        queue.admit(bulk(1));
+
+        assertFalse(queue.admit(bulk(2)));
+
+        assertTrue(dropped.isEmpty());
+        assertEquals(1, queue.getRejectedCount());
+        assertEquals(1, queue.poll().getItemId().intValue());
+    }
+
+    // Once the whole bulk backlog is past its starvation threshold, an interactive request must still be
+    // served within one weighted round instead of queueing behind every aged bulk request.
+    @Test
+    void agedBulkBacklogDoesNotStarveInteractiveRequests() throws InterruptedException {
+        PriorityRequestQueue queue = new PriorityRequestQueue();
+        for (int id = 1; id <= 200; id++) {
+            queue.offer(bulk(id));
+        }
+        Thread.sleep(ServiceClass.BULK.getStarvationThresholdMillis() + 100);
+        queue.offer(interactive(1000));
+
+        int position = 0;
+        LibraryRequest request;
+        do {
+            request = queue.poll();
+            position++;
+        } while (request.getRequestType() != RequestType.RETURN);
+
+        int weights = ServiceClass.INTERACTIVE.getWeight() + ServiceClass.BULK.getWeight();
+        assertTrue(position <= weights, "interactive request served at position " + position);
+        assertTrue(queue.getStarvationPromotionCount() >= 1);
+        assertEquals(200 - (position - 1), queue.size(ServiceClass.BULK));
+    }
+}